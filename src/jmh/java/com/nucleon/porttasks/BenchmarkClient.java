@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks;
+
+import com.nucleon.porttasks.enums.PortLocation;
+import com.nucleon.porttasks.enums.TaskReward;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.Client;
+import net.runelite.api.gameval.DBTableID;
+
+/**
+ * Offline stand-in for the RuneLite {@link Client}. Only the camera getters used by the 3D overlays
+ * and the port task db table are answered; every other call returns a zero value.
+ */
+public final class BenchmarkClient
+{
+	// a camera hovering above Port Sarim looking north-east
+	public static final int CAMERA_X = 6400;
+	public static final int CAMERA_Y = 6400;
+	public static final int CAMERA_Z = -1200;
+
+	private BenchmarkClient()
+	{
+	}
+
+	public static Client create()
+	{
+		Map<Integer, Map<Integer, Object[]>> rows = createPortTaskRows();
+		return (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class},
+			(proxy, method, args) -> invoke(proxy, rows, method, args));
+	}
+
+	private static Object invoke(Object proxy, Map<Integer, Map<Integer, Object[]>> rows, Method method, Object[] args)
+	{
+		switch (method.getName())
+		{
+			case "getCameraFpX":
+				return (double) CAMERA_X;
+			case "getCameraFpY":
+				return (double) CAMERA_Y;
+			case "getCameraFpZ":
+				return (double) CAMERA_Z;
+			case "getCameraFpPitch":
+				return 0.6;
+			case "getCameraFpYaw":
+				return 0.8;
+			case "getScale":
+				return 512;
+			case "getViewportWidth":
+				return 765;
+			case "getViewportHeight":
+				return 503;
+			case "getViewportXOffset":
+			case "getViewportYOffset":
+				return 4;
+			case "getDBTableRows":
+				return new ArrayList<>(rows.keySet());
+			case "getDBTableField":
+				Map<Integer, Object[]> row = rows.get((int) args[0]);
+				return row == null ? null : row.get(column((int) args[1], (int) args[2]));
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return args[0] == proxy;
+			case "toString":
+				return "BenchmarkClient";
+			default:
+				return zero(method.getReturnType());
+		}
+	}
+
+	/**
+	 * One courier task per known reward, cycling through every pair of ports.
+	 */
+	private static Map<Integer, Map<Integer, Object[]>> createPortTaskRows()
+	{
+		List<PortLocation> ports = new ArrayList<>();
+		for (PortLocation port : PortLocation.values())
+		{
+			if (port != PortLocation.EMPTY)
+			{
+				ports.add(port);
+			}
+		}
+
+		Map<Integer, Map<Integer, Object[]>> rows = new HashMap<>();
+		int task = 0;
+		for (TaskReward reward : TaskReward.values())
+		{
+			PortLocation cargo = ports.get(task % ports.size());
+			PortLocation delivery = ports.get((task / ports.size() + task + 1) % ports.size());
+			if (cargo == delivery)
+			{
+				delivery = ports.get((ports.indexOf(delivery) + 1) % ports.size());
+			}
+
+			Map<Integer, Object[]> row = new HashMap<>();
+			row.put(column(DBTableID.PortTask.COL_TASK_ID, 0), new Object[]{task + 1});
+			row.put(column(DBTableID.PortTask.COL_STARTING_PORT, 0), new Object[]{cargo.getDbrow()});
+			row.put(column(DBTableID.PortTask.COL_CARGO_PORT, 0), new Object[]{cargo.getDbrow()});
+			row.put(column(DBTableID.PortTask.COL_ENDING_PORT, 0), new Object[]{delivery.getDbrow()});
+			row.put(column(DBTableID.PortTask.COL_LEVEL_REQUIRED, 0), new Object[]{1});
+			row.put(column(DBTableID.PortTask.COL_NAME, 0), new Object[]{"Benchmark task " + task});
+			row.put(column(DBTableID.PortTask.COL_CARGO, 0), new Object[]{995});
+			row.put(column(DBTableID.PortTask.COL_CARGO, 1), new Object[]{1});
+			// constants are named after their db row
+			rows.put(Integer.parseInt(reward.name().substring("TASK_".length())), row);
+			task++;
+		}
+		return rows;
+	}
+
+	private static int column(int column, int tuple)
+	{
+		return column << 8 | tuple;
+	}
+
+	private static Object zero(Class<?> type)
+	{
+		if (type == boolean.class)
+		{
+			return false;
+		}
+		if (type == char.class)
+		{
+			return '\0';
+		}
+		if (type == byte.class)
+		{
+			return (byte) 0;
+		}
+		if (type == short.class)
+		{
+			return (short) 0;
+		}
+		if (type == int.class)
+		{
+			return 0;
+		}
+		if (type == long.class)
+		{
+			return 0L;
+		}
+		if (type == float.class)
+		{
+			return 0f;
+		}
+		if (type == double.class)
+		{
+			return 0d;
+		}
+		return null;
+	}
+}
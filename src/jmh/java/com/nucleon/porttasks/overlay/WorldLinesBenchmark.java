@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import com.nucleon.porttasks.BenchmarkClient;
+import com.nucleon.porttasks.enums.PortPaths;
+import com.nucleon.porttasks.route.RoutePath;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Perspective;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Projection of the world route lines, per segment and per frame as the route geometry worker runs it.
+ * The camera is captured once from {@link BenchmarkClient}, as the plugin does once per frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorldLinesBenchmark
+{
+	private static final int SEGMENTS = 1024;
+	// pathDrawDistance of 100 tiles, scaled the way WorldLines does
+	private static final float DISTANCE_CLIP = 100 + 100 * 128;
+	private static final int SCENES = 64;
+	private static final int ROUTES_PER_SCENE = 3;
+
+	private CameraSnapshot camera;
+	private LocalPoint[] starts;
+	private LocalPoint[] ends;
+	private int next;
+	private final float[] cameraScratch = new float[9];
+	private final int[] screen = new int[4];
+	private RouteScene[] scenes;
+	private RouteScene[] tracerScenes;
+	private final ProjectedLines projected = new ProjectedLines();
+
+	@Setup
+	public void setUp()
+	{
+		camera = CameraSnapshot.capture(BenchmarkClient.create());
+		starts = new LocalPoint[SEGMENTS];
+		ends = new LocalPoint[SEGMENTS];
+
+		// segments of up to 50 tiles scattered around the camera, some in view, some behind or clipped
+		Random random = new Random(0);
+		int spread = 150 * Perspective.LOCAL_TILE_SIZE;
+		int length = 50 * Perspective.LOCAL_TILE_SIZE;
+		for (int i = 0; i < SEGMENTS; i++)
+		{
+			int x = BenchmarkClient.CAMERA_X + random.nextInt(spread * 2) - spread;
+			int y = BenchmarkClient.CAMERA_Y + random.nextInt(spread * 2) - spread;
+			starts[i] = new LocalPoint(x, y, WorldView.TOPLEVEL);
+			ends[i] = new LocalPoint(x + random.nextInt(length * 2) - length, y + random.nextInt(length * 2) - length, WorldView.TOPLEVEL);
+		}
+
+		// a few tracked routes per frame, with the boat somewhere along the first and the camera on the boat
+		scenes = new RouteScene[SCENES];
+		tracerScenes = new RouteScene[SCENES];
+		PortPaths[] paths = PortPaths.values();
+		for (int i = 0; i < SCENES; i++)
+		{
+			RoutePath boatRoute = randomRoute(random, paths);
+			int boatSegment = random.nextInt(boatRoute.size() - 1);
+			WorldPoint boat = boatRoute.toWorldPoint(boatSegment);
+			int originX = BenchmarkClient.CAMERA_X - boat.getX() * Perspective.LOCAL_TILE_SIZE;
+			int originY = BenchmarkClient.CAMERA_Y - boat.getY() * Perspective.LOCAL_TILE_SIZE;
+
+			List<TaskRoute> routes = new ArrayList<>();
+			routes.add(new TaskRoute(new LocalRoute(boatRoute, originX, originY), boatSegment, Color.RED, Color.RED.darker(), 0));
+			for (int route = 1; route < ROUTES_PER_SCENE; route++)
+			{
+				routes.add(new TaskRoute(new LocalRoute(randomRoute(random, paths), originX, originY), 0, Color.GREEN, Color.GREEN.darker(), 0));
+			}
+			scenes[i] = new RouteScene(camera, boat, originX, originY, DISTANCE_CLIP, 100, false, 0, routes);
+			tracerScenes[i] = new RouteScene(camera, boat, originX, originY, DISTANCE_CLIP, 100, true, i % 50, routes);
+		}
+	}
+
+	private static RoutePath randomRoute(Random random, PortPaths[] paths)
+	{
+		RoutePath route;
+		do
+		{
+			route = paths[random.nextInt(paths.length)].getRoute(random.nextBoolean());
+		}
+		while (route.size() < 2);
+		return route;
+	}
+
+	@Benchmark
+	public boolean projectLine()
+	{
+		next = (next + 1) % SEGMENTS;
+		return WorldLines.projectLine(camera, starts[next].getX(), starts[next].getY(), 0, ends[next].getX(), ends[next].getY(), 0, DISTANCE_CLIP, cameraScratch, screen);
+	}
+
+	@Benchmark
+	public int projectRoutes()
+	{
+		next = (next + 1) % SCENES;
+		projected.clear();
+		WorldLines.projectRoutes(projected, scenes[next]);
+		return projected.size();
+	}
+
+	@Benchmark
+	public int projectTracerRoutes()
+	{
+		next = (next + 1) % SCENES;
+		projected.clear();
+		WorldLines.projectRoutes(projected, tracerScenes[next]);
+		return projected.size();
+	}
+}
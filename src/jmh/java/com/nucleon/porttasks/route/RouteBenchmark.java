@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import com.nucleon.porttasks.PortPathMatch;
+import com.nucleon.porttasks.enums.PortLocation;
+import com.nucleon.porttasks.enums.PortPaths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Route geometry and lookup. Each invocation moves on to the next route or port pair so the
+ * results average over the whole network rather than one favourable route.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RouteBenchmark
+{
+	private PortPaths[] paths;
+	private PortLocation[] ports;
+	private int[] moves;
+	private int next;
+
+	// the longest single leg in the network is under 1000 tiles
+	private int dx = -737;
+	private int dy = 412;
+
+	@Setup
+	public void setUp()
+	{
+		paths = PortPaths.values();
+		ports = Arrays.stream(PortLocation.values())
+			.filter(port -> port != PortLocation.EMPTY)
+			.toArray(PortLocation[]::new);
+		moves = new int[2 * (Math.max(Math.abs(dx), Math.abs(dy)) / RouteNetwork.SEGMENT_LENGTH + 1)];
+
+		// load the route data and lookup table outside of the measurement
+		PortPaths.findPath(ports[0], ports[1]);
+	}
+
+	@Benchmark
+	public List<WorldPoint> getFullPath()
+	{
+		next = (next + 1) % (paths.length * 2);
+		return paths[next >> 1].getFullPath((next & 1) == 1);
+	}
+
+	@Benchmark
+	public RoutePath getRoute()
+	{
+		next = (next + 1) % (paths.length * 2);
+		return paths[next >> 1].getRoute((next & 1) == 1);
+	}
+
+	@Benchmark
+	public int splitMove()
+	{
+		return RouteNetwork.splitMove(dx, dy, RouteNetwork.SEGMENT_LENGTH, moves, 0);
+	}
+
+	@Benchmark
+	public double computeDistance()
+	{
+		next = (next + 1) % paths.length;
+		PortPaths path = paths[next];
+		return RouteData.computeDistance(path, RouteData.getSharedLegs(path));
+	}
+
+	@Benchmark
+	public PortPathMatch findPath()
+	{
+		next = (next + 1) % (ports.length * ports.length);
+		int from = next / ports.length;
+		// a port has no route to itself
+		int to = (from + 1 + next % (ports.length - 1)) % ports.length;
+		return PortPaths.findPath(ports[from], ports[to]);
+	}
+}
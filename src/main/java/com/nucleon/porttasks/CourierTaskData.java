@@ -29,6 +29,7 @@ package com.nucleon.porttasks;
 import com.nucleon.porttasks.enums.PortLocation;
 import com.nucleon.porttasks.enums.PortPaths;
 import com.nucleon.porttasks.enums.TaskReward;
+import com.nucleon.porttasks.route.RoutePath;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -46,12 +47,15 @@ public final class CourierTaskData
 	private final PortLocation noticeBoard;
 	private final PortLocation cargoLocation;
 	private final PortLocation deliveryLocation;
-	public final PortPaths dockMarkers;
-	public final boolean reversePath;
+	// travel geometry, possibly chained through other ports when there is no direct route
+	private final RoutePath route;
+	private final double distance;
 	public final String taskName;
 	public final int cargo;
 	public final int cargoAmount;
 	private final double xpPerTile;
+	// xpPerTile against the best task loaded, filled in once every row is known
+	private double xpPerTileRatio;
 
 	private static final Set<Integer> VARBIT_VALUES = new HashSet<>();
 	private static final Map<Integer, CourierTaskData> BY_DBROW = new HashMap<>();
@@ -59,7 +63,7 @@ public final class CourierTaskData
 
 	private static double MAX_XP_PER_TILE;
 
-	private CourierTaskData(int dbrow, int id, int levelRequired, PortLocation noticeBoard, PortLocation cargoLocation, PortLocation deliveryLocation, PortPaths dockMarkers, boolean reversePath, String taskName, int cargo, int cargoAmount, double xpPerTile)
+	private CourierTaskData(int dbrow, int id, int levelRequired, PortLocation noticeBoard, PortLocation cargoLocation, PortLocation deliveryLocation, RoutePath route, double distance, String taskName, int cargo, int cargoAmount, double xpPerTile)
 	{
 		this.dbrow = dbrow;
 		this.id = id;
@@ -67,8 +71,8 @@ public final class CourierTaskData
 		this.noticeBoard = noticeBoard;
 		this.cargoLocation = cargoLocation;
 		this.deliveryLocation = deliveryLocation;
-		this.dockMarkers = dockMarkers;
-		this.reversePath = reversePath;
+		this.route = route;
+		this.distance = distance;
 		this.taskName = taskName;
 		this.cargo = cargo;
 		this.cargoAmount = cargoAmount;
@@ -100,6 +104,11 @@ public final class CourierTaskData
 				MAX_XP_PER_TILE = data.xpPerTile;
 			}
 		}
+
+		for (CourierTaskData data : BY_DBROW.values())
+		{
+			data.xpPerTileRatio = MAX_XP_PER_TILE > 0.0 ? (data.xpPerTile / MAX_XP_PER_TILE) : 0.0;
+		}
 	}
 
 	private static CourierTaskData fromRow(Client client, int dbrow)
@@ -150,8 +159,6 @@ public final class CourierTaskData
 		}
 
 		PortPathMatch match = PortPaths.findPath(cargoLocation, deliveryLocation);
-		PortPaths dockMarkers = match.getPath();
-		boolean reversePath = match.isReversed();
 
 		String taskName = (String) client.getDBTableField(dbrow, DBTableID.PortTask.COL_NAME, 0)[0];
 
@@ -160,10 +167,11 @@ public final class CourierTaskData
 		Integer cargoAmount = getIntField(client, dbrow, DBTableID.PortTask.COL_CARGO, 1);
 
 		int reward = TaskReward.getIntRewardForTask(dbrow);
-		double distance = dockMarkers.getDistance();
-		double xpPerTile = distance > 0 ? ( reward / distance) : 0.0;
+		// the distance of the route that is drawn, finite even for the fallback between unconnected ports
+		double distance = match.getDistance();
+		double xpPerTile = distance > 0 ? (reward / distance) : 0.0;
 
-		return new CourierTaskData(dbrow, id, level, noticeBoard, cargoLocation, deliveryLocation, dockMarkers, reversePath, taskName, cargo, cargoAmount, xpPerTile);
+		return new CourierTaskData(dbrow, id, level, noticeBoard, cargoLocation, deliveryLocation, match.getRoute(), distance, taskName, cargo, cargoAmount, xpPerTile);
 	}
 
 	private static Integer getIntField(Client client, int rowId, int col, int tupleIndex, int objectIndex)
@@ -196,10 +204,5 @@ public final class CourierTaskData
 		return BY_ID.get(id);
 	}
 
-	public double getXpPerTileRatio()
-	{
-		return MAX_XP_PER_TILE > 0.0 ? (xpPerTile / MAX_XP_PER_TILE) : 0.0;
-	}
-
 }
 
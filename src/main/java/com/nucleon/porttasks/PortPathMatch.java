@@ -1,16 +1,32 @@
 package com.nucleon.porttasks;
 
 import com.nucleon.porttasks.enums.PortPaths;
+import com.nucleon.porttasks.route.RoutePath;
 
 public final class PortPathMatch
 {
 	private final PortPaths path;
 	private final boolean reversed;
+	private final RoutePath route;
+	private final double distance;
 
 	public PortPathMatch(PortPaths path, boolean reversed)
+	{
+		this(path, reversed, path.getRoute(reversed), path.getDistance());
+	}
+
+	/**
+	 * @param path the direct route between both ports, or {@link PortPaths#DEFAULT} when {@code route}
+	 *             is stitched together from several routes
+	 * @param route the geometry in travel order
+	 * @param distance the sum of the distances of every route travelled
+	 */
+	public PortPathMatch(PortPaths path, boolean reversed, RoutePath route, double distance)
 	{
 		this.path = path;
 		this.reversed = reversed;
+		this.route = route;
+		this.distance = distance;
 	}
 
 	public PortPaths getPath()
@@ -22,4 +38,14 @@ public final class PortPathMatch
 	{
 		return reversed;
 	}
+
+	public RoutePath getRoute()
+	{
+		return route;
+	}
+
+	public double getDistance()
+	{
+		return distance;
+	}
 }
@@ -29,14 +29,15 @@ package com.nucleon.porttasks;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.inject.Inject;
 
-import com.nucleon.porttasks.overlay.WorldLines;
+import com.nucleon.porttasks.overlay.MapRoute;
+import com.nucleon.porttasks.overlay.WorldMapLayer;
+import com.nucleon.porttasks.route.RouteProgress;
 import net.runelite.api.Client;
-import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
 
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -47,6 +48,7 @@ class PortTasksMapOverlay extends Overlay
 	private final Client client;
 	private final PortTasksPlugin plugin;
 	private final PortTasksConfig config;
+	private final WorldMapLayer worldMapLayer = new WorldMapLayer();
 
 	@Inject
 	private PortTasksMapOverlay(Client client, PortTasksPlugin plugin, PortTasksConfig config)
@@ -63,35 +65,33 @@ class PortTasksMapOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		renderOverlayLines(graphics);
-		renderOverlayLinesDeveloper(graphics);
+		List<MapRoute> routes = new ArrayList<>();
+		addOverlayLines(routes);
+		addOverlayLinesDeveloper(routes);
+		// the routes are only drawn again once the map moves or they change, otherwise last frame's image is reused
+		worldMapLayer.draw(graphics, client, routes);
 		return null;
 	}
 
-	private void renderOverlayLines(Graphics2D g)
+	private void addOverlayLines(List<MapRoute> routes)
 	{
 		for (CourierTask tasks : plugin.courierTasks)
 		{
-			Color overlayColor = tasks.getOverlayColor();
-			List<WorldPoint> journey = tasks.getData().dockMarkers.getFullPath();
-			if (tasks.getData().reversePath)
-			{
-				Collections.reverse(journey);
-			}
 			if (tasks.isTracking())
 			{
-				WorldLines.createWorldMapLines(g, client, journey, overlayColor);
+				RouteProgress progress = plugin.getRouteProgress(tasks);
+				routes.add(new MapRoute(tasks.getData().getRoute(), progress != null ? progress.getSegment() : 0, tasks.getOverlayColor()));
 			}
 		}
 	}
 
-	private void renderOverlayLinesDeveloper(Graphics2D g)
+	private void addOverlayLinesDeveloper(List<MapRoute> routes)
 	{
 		if (plugin.developerMode)
 		{
 			if (plugin.developerPathSelected != null)
 			{
-				WorldLines.createWorldMapLines(g, client, plugin.getDeveloperPathSelected().getFullPath(), Color.CYAN);
+				routes.add(new MapRoute(plugin.getDeveloperPathSelected().getRoute(false), 0, Color.CYAN));
 			}
 		}
 	}
@@ -26,15 +26,15 @@
  */
 package com.nucleon.porttasks;
 
-import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.util.List;
 
 import javax.inject.Inject;
 
+import com.nucleon.porttasks.overlay.MinimapProjector;
+import com.nucleon.porttasks.overlay.WorldLines;
+import com.nucleon.porttasks.route.RouteProgress;
 import net.runelite.api.Client;
-import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
 
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -45,6 +45,7 @@ class PortTasksMiniMapOverlay extends Overlay
 	private final Client client;
 	private final PortTasksPlugin plugin;
 	private final PortTasksConfig config;
+	private final MinimapProjector projector = new MinimapProjector();
 
 	@Inject
 	private PortTasksMiniMapOverlay(Client client, PortTasksPlugin plugin, PortTasksConfig config)
@@ -67,14 +68,18 @@ class PortTasksMiniMapOverlay extends Overlay
 
 	private void renderOverlayLines(Graphics2D g)
 	{
+		// the minimap's position, zoom and rotation are looked up once for all routes
+		if (!projector.update(client))
+		{
+			return;
+		}
+
 		for (CourierTask tasks : plugin.courierTasks)
 		{
-			Color overlayColor = tasks.getOverlayColor();
-			List<WorldPoint> navigationPoints = tasks.getData().dockMarkers.getFullPath();
 			if (tasks.isTracking())
 			{
-				//Getting inside a boat, seems to load a different minimap (?) - nucleon
-				//WorldLines.createMinimapLines(g, client, navigationPoints, overlayColor);
+				RouteProgress progress = plugin.getRouteProgress(tasks);
+				WorldLines.createMinimapLines(g, projector, tasks.getData().getRoute(), progress != null ? progress.getSegment() : 0, tasks.getOverlayColor());
 			}
 		}
 	}
@@ -31,7 +31,9 @@ import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 import com.google.inject.Provides;
 import com.nucleon.porttasks.enums.BountyTaskData;
-import com.nucleon.porttasks.enums.PortLocation;
+import com.nucleon.porttasks.enums.ObjectKind;
+import com.nucleon.porttasks.geofence.GeofenceEvent;
+import com.nucleon.porttasks.geofence.GeofenceTracker;
 import com.nucleon.porttasks.overlay.NoticeBoardTooltip;
 import java.awt.Color;
 import java.lang.reflect.Type;
@@ -50,8 +52,12 @@ import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import com.nucleon.porttasks.enums.PortPaths;
 import com.nucleon.porttasks.enums.PortTaskTrigger;
+import com.nucleon.porttasks.overlay.CameraSnapshot;
+import com.nucleon.porttasks.overlay.RouteGeometryWorker;
 import com.nucleon.porttasks.overlay.TaskHighlight;
 import com.nucleon.porttasks.overlay.TracerConfig;
+import com.nucleon.porttasks.overlay.WorldPerspective;
+import com.nucleon.porttasks.route.RouteProgress;
 import com.nucleon.porttasks.ui.PortTasksPluginPanel;
 import lombok.Getter;
 import lombok.Setter;
@@ -70,6 +76,7 @@ import net.runelite.api.MenuAction;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.NPC;
 import net.runelite.api.Skill;
+import net.runelite.api.events.BeforeRender;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
@@ -84,8 +91,8 @@ import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.InventoryID;
-import net.runelite.api.gameval.ObjectID;
 import net.runelite.api.gameval.VarbitID;
+import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.chat.ChatMessageBuilder;
@@ -167,6 +174,11 @@ public class PortTasksPlugin extends Plugin
 	private final Set<GameObject> helms = new HashSet<>();
 	@Getter
 	private final Set<GameObject> cargoHolds = new HashSet<>();
+	// progress of the boat along each courier task's route, keyed by slot
+	private final Map<Integer, RouteProgress> routeProgress = new HashMap<>();
+	// camera state for the frame being drawn, shared by the 3D overlays
+	@Getter
+	private CameraSnapshot cameraSnapshot;
 	@Getter
 	Map<Integer, OfferedTaskData> offeredTasks = new HashMap<>();
 	@Getter
@@ -220,6 +232,10 @@ public class PortTasksPlugin extends Plugin
 	@Inject
 	public TracerConfig tracerConfig;
 	@Inject
+	private RouteGeometryWorker routeGeometryWorker;
+	@Inject
+	private GeofenceTracker geofenceTracker;
+	@Inject
 	private EventBus eventBus;
 	@Inject
 	@Named("developerMode")
@@ -242,72 +258,6 @@ public class PortTasksPlugin extends Plugin
 	@Setter
 	public PortPaths developerPathSelected;
 
-	private static final Set<Integer> SAILING_BOAT_CARGO_HOLDS = Set.of(
-		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE_NO_CARGO,
-		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE_CARGO
-	);
-
 	@Override
 	protected void startUp()
 	{
@@ -351,6 +301,7 @@ public class PortTasksPlugin extends Plugin
 				.build();
 
 		clientToolbar.addNavigation(navigationButton);
+		routeGeometryWorker.start();
 		registerOverlays();
 		pluginPanel.rebuild();
 		eventBus.register(tracerConfig);
@@ -393,10 +344,15 @@ public class PortTasksPlugin extends Plugin
 		helms.clear();
 		cargoHolds.clear();
 		bountyCorpses.clear();
+		routeProgress.clear();
+		cameraSnapshot = null;
+		routeGeometryWorker.shutDown();
+		geofenceTracker.reset();
 
 		eventBus.unregister(tracerConfig);
 
 		overlayManager.remove(sailingHelperWorldOverlay);
+		overlayManager.remove(sailingHelperMiniMapOverlay);
 		overlayManager.remove(sailingHelperMapOverlay);
 		overlayManager.remove(portTasksLedgerOverlay);
 		overlayManager.remove(portTaskModelRenderer);
@@ -416,6 +372,7 @@ public class PortTasksPlugin extends Plugin
 		{
 			case "drawOverlay":
 				overlayManager.remove(sailingHelperWorldOverlay);
+				overlayManager.remove(sailingHelperMiniMapOverlay);
 				overlayManager.remove(sailingHelperMapOverlay);
 				overlayManager.remove(portTasksLedgerOverlay);
 				registerOverlays();
@@ -533,25 +490,30 @@ public class PortTasksPlugin extends Plugin
 		final GameObject gameObject = event.getGameObject();
 		final int id = gameObject.getId();
 
-		if (id == ObjectID.SAILING_GANGPLANK_PROXY || PortLocation.isGangplank(id))
-		{
-			gangplanks.add(gameObject);
-		}
-		else if (PortLocation.isNoticeboard(id))
-		{
-			noticeboards.add(gameObject);
-		}
-		else if (PortLocation.isLedger(id))
-		{
-			ledgers.add(gameObject);
-		}
-		else if (isInHelmRange(id))
+		final ObjectKind kind = ObjectKind.of(id);
+		if (kind == null)
 		{
-			helms.add(gameObject);
+			return;
 		}
-		else if (isInCargoHoldRange(id))
+
+		switch (kind)
 		{
-			cargoHolds.add(gameObject);
+			case GANGPLANK:
+				gangplanks.add(gameObject);
+				break;
+			case NOTICEBOARD:
+				noticeboards.add(gameObject);
+				break;
+			case LEDGER:
+				ledgers.add(gameObject);
+				geofenceTracker.addLedger(gameObject);
+				break;
+			case HELM:
+				helms.add(gameObject);
+				break;
+			case CARGO_HOLD:
+				cargoHolds.add(gameObject);
+				break;
 		}
 	}
 
@@ -563,25 +525,30 @@ public class PortTasksPlugin extends Plugin
 		final int id = gameObject.getId();
 		final int worldViewId = gameObject.getWorldView().getId();
 
-		if (id == ObjectID.SAILING_GANGPLANK_PROXY || PortLocation.isGangplank(id))
-		{
-			gangplanks.remove(gameObject);
-		}
-		else if (PortLocation.isNoticeboard(id))
-		{
-			noticeboards.remove(gameObject);
-		}
-		else if (PortLocation.isLedger(id))
-		{
-			ledgers.remove(gameObject);
-		}
-		else if (isInCargoHoldRange(id))
+		final ObjectKind kind = ObjectKind.of(id);
+		if (kind == null)
 		{
-			cargoHolds.remove(gameObject);
+			return;
 		}
-		else if (isInHelmRange(id))
+
+		switch (kind)
 		{
-			helms.remove(gameObject);
+			case GANGPLANK:
+				gangplanks.remove(gameObject);
+				break;
+			case NOTICEBOARD:
+				noticeboards.remove(gameObject);
+				break;
+			case LEDGER:
+				ledgers.remove(gameObject);
+				geofenceTracker.removeLedger(gameObject);
+				break;
+			case HELM:
+				helms.remove(gameObject);
+				break;
+			case CARGO_HOLD:
+				cargoHolds.remove(gameObject);
+				break;
 		}
 	}
 
@@ -597,6 +564,8 @@ public class PortTasksPlugin extends Plugin
 	@Subscribe
 	public void onGameStateChanged(final GameStateChanged event)
 	{
+		WorldPerspective.clearInstanceChunks();
+		WorldPerspective.clearZoneOutlines();
 		switch (event.getGameState())
 		{
 			case HOPPING:
@@ -606,6 +575,8 @@ public class PortTasksPlugin extends Plugin
 				noticeboards.clear();
 				ledgers.clear();
 				bountyCorpses.clear();
+				geofenceTracker.reloadLedgers();
+				sailingHelperWorldOverlay.invalidateLocalRoutes();
 				break;
 		}
 	}
@@ -699,6 +670,72 @@ public class PortTasksPlugin extends Plugin
 	{
 		// prune tracked objects that have passed their timer
 		bountyCorpses.removeIf(corpse -> Instant.now().toEpochMilli() > corpse.getStartTime().toEpochMilli() + corpse.getDespawnTime());
+		updateRouteProgress();
+		geofenceTracker.update();
+	}
+
+	@SuppressWarnings("unused")
+	@Subscribe
+	private void onGeofenceEvent(GeofenceEvent event)
+	{
+		log.debug("{} {} {} geofence at {}", event.getSubject(), event.isEntered() ? "entered" : "left",
+			event.getGeofence().getType(), event.getGeofence().getPort());
+	}
+
+	private void updateRouteProgress()
+	{
+		routeProgress.keySet().removeIf(slot -> courierTasks.stream().noneMatch(task -> task.getSlot() == slot));
+
+		WorldPoint boatWorldPoint = WorldPerspective.getBoatWorldPoint(client);
+		for (CourierTask task : courierTasks)
+		{
+			RouteProgress progress = routeProgress.get(task.getSlot());
+			if (progress == null || progress.getRoute() != task.getData().getRoute())
+			{
+				progress = new RouteProgress(task.getData().getRoute());
+				routeProgress.put(task.getSlot(), progress);
+			}
+
+			if (boatWorldPoint == null)
+			{
+				continue;
+			}
+
+			int before = (int) Math.round(progress.getRemaining());
+			if (!progress.update(boatWorldPoint))
+			{
+				continue;
+			}
+
+			int remaining = (int) Math.round(progress.getRemaining());
+			PortTasksPluginPanel panel = pluginPanel;
+			if (remaining != before && panel != null)
+			{
+				SwingUtilities.invokeLater(() -> panel.updateRemainingDistance(task, remaining));
+			}
+		}
+	}
+
+	@SuppressWarnings("unused")
+	@Subscribe
+	private void onBeforeRender(BeforeRender event)
+	{
+		cameraSnapshot = CameraSnapshot.capture(client);
+		if (config.getDrawOverlay() == PortTasksConfig.Overlay.BOTH || config.getDrawOverlay() == PortTasksConfig.Overlay.WORLD)
+		{
+			sailingHelperWorldOverlay.prepareRouteLines(cameraSnapshot);
+		}
+	}
+
+	/**
+	 * Must be called on the client thread, which is the only thread that updates the progress.
+	 *
+	 * @return the boat's progress along the task's route, or null if it has not been tracked yet
+	 */
+	public RouteProgress getRouteProgress(CourierTask task)
+	{
+		RouteProgress progress = routeProgress.get(task.getSlot());
+		return progress != null && progress.getRoute() == task.getData().getRoute() ? progress : null;
 	}
 
 	@SuppressWarnings("unused")
@@ -960,16 +997,6 @@ public class PortTasksPlugin extends Plugin
 
 	}
 
-	private boolean isInHelmRange(int id)
-	{
-		return id >= ObjectID.SAILING_BOAT_STEERING_KANDARIN_1X3_WOOD && id <= ObjectID.SAILING_INTRO_HELM_NOT_IN_USE;
-	}
-
-	private boolean isInCargoHoldRange(int id)
-	{
-		return SAILING_BOAT_CARGO_HOLDS.contains(id);
-	}
-
 	@SuppressWarnings("unused")
 	@Provides
 	PortTasksConfig provideConfig(ConfigManager configManager)
@@ -1082,6 +1109,7 @@ public class PortTasksPlugin extends Plugin
 		if (config.getDrawOverlay() == PortTasksConfig.Overlay.BOTH || config.getDrawOverlay() == PortTasksConfig.Overlay.WORLD)
 		{
 			overlayManager.add(sailingHelperWorldOverlay);
+			overlayManager.add(sailingHelperMiniMapOverlay);
 		}
 		if (config.noticeBoardTooltip())
 		{
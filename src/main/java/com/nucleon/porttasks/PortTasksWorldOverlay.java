@@ -26,30 +26,62 @@
  */
 package com.nucleon.porttasks;
 
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.inject.Inject;
 
+import com.nucleon.porttasks.geofence.Geofence;
+import com.nucleon.porttasks.geofence.GeofenceEvent;
+import com.nucleon.porttasks.geofence.GeofenceTracker;
+import com.nucleon.porttasks.overlay.CameraSnapshot;
+import com.nucleon.porttasks.overlay.LocalRoute;
+import com.nucleon.porttasks.overlay.RouteGeometryWorker;
+import com.nucleon.porttasks.overlay.TaskRoute;
+import com.nucleon.porttasks.overlay.TracerConfig;
 import com.nucleon.porttasks.overlay.WorldLines;
+import com.nucleon.porttasks.overlay.WorldPerspective;
+import com.nucleon.porttasks.route.RoutePath;
+import com.nucleon.porttasks.route.RouteProgress;
 import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayUtil;
 
 
 class PortTasksWorldOverlay extends Overlay
 {
+	private static final Color GEOFENCE_COLOR = Color.CYAN;
+
 	private final Client client;
 	private final PortTasksPlugin plugin;
 	private final PortTasksConfig config;
+	private final RouteGeometryWorker routeGeometryWorker;
+	private final GeofenceTracker geofenceTracker;
+	// tracked routes in local coordinates, valid while the boat stays on originBoat
+	private final Map<RoutePath, LocalRoute> localRoutes = new HashMap<>();
+	private WorldPoint originBoat;
+	private int originX;
+	private int originY;
 
 	@Inject
-	private PortTasksWorldOverlay(Client client, PortTasksPlugin plugin, PortTasksConfig config)
+	private PortTasksWorldOverlay(Client client, PortTasksPlugin plugin, PortTasksConfig config, RouteGeometryWorker routeGeometryWorker, GeofenceTracker geofenceTracker)
 	{
 		this.client = client;
 		this.plugin = plugin;
 		this.config = config;
+		this.routeGeometryWorker = routeGeometryWorker;
+		this.geofenceTracker = geofenceTracker;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(Overlay.PRIORITY_HIGHEST);
@@ -59,18 +91,118 @@ class PortTasksWorldOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		renderOverlayLines(graphics);
+		// the lines are laid out ahead of time by the worker, only stroking is left for the render thread
+		routeGeometryWorker.getFront().draw(graphics);
+
+		if (plugin.developerMode)
+		{
+			renderGeofences(graphics);
+		}
 		return null;
 	}
 
-	private void renderOverlayLines(Graphics2D g)
+	/**
+	 * Outlines the geofences the boat or player is inside of, to check their extent in developer mode.
+	 */
+	private void renderGeofences(Graphics2D graphics)
+	{
+		CameraSnapshot camera = CameraSnapshot.capture(client);
+		Set<Geofence> boatInside = geofenceTracker.getInside(GeofenceEvent.Subject.BOAT);
+		for (Geofence geofence : boatInside)
+		{
+			OverlayUtil.renderPolygon(graphics, WorldPerspective.getZonePoly(client, camera, geofence.getZone()), GEOFENCE_COLOR);
+		}
+		// aboard a boat the player is inside the same geofences
+		for (Geofence geofence : geofenceTracker.getInside(GeofenceEvent.Subject.PLAYER))
+		{
+			if (!boatInside.contains(geofence))
+			{
+				OverlayUtil.renderPolygon(graphics, WorldPerspective.getZonePoly(client, camera, geofence.getZone()), GEOFENCE_COLOR);
+			}
+		}
+	}
+
+	/**
+	 * Hands the tracked routes to the geometry worker, called on the client thread before each frame.
+	 */
+	void prepareRouteLines(CameraSnapshot camera)
 	{
+		TracerConfig tracerConfig = plugin.tracerConfig;
+		WorldPoint boatWorldPoint = updateOrigin();
+		List<TaskRoute> routes = new ArrayList<>();
 		for (CourierTask task : plugin.courierTasks)
 		{
-			if (task.isTracking())
+			if (task.isTracking() && boatWorldPoint != null)
+			{
+				RouteProgress progress = plugin.getRouteProgress(task);
+				Color color = task.getOverlayColor();
+				routes.add(new TaskRoute(
+					localRoutes.computeIfAbsent(task.getData().getRoute(), route -> new LocalRoute(route, originX, originY)),
+					progress != null ? progress.getSegment() : 0,
+					color,
+					tracerConfig.isTracerEnabled() ? tracerConfig.getDimmedColor(color) : null,
+					plugin.isTaskHeightOffset() ? (task.getSlot() * 100) : 0));
+			}
+		}
+		// routes no longer tracked are dropped, only a handful are ever tracked so the scan is cheap
+		localRoutes.keySet().removeIf(path -> !isTracked(routes, path));
+		routeGeometryWorker.submit(WorldLines.captureScene(camera, boatWorldPoint, originX, originY, routes, tracerConfig, plugin.getPathDrawDistance(), plugin.getPathDrawDistance()));
+	}
+
+	private static boolean isTracked(List<TaskRoute> routes, RoutePath path)
+	{
+		for (TaskRoute route : routes)
+		{
+			if (route.getLocal().getPath() == path)
 			{
-				WorldLines.drawPortTaskLinesOnWorld(g, client, task, plugin.tracerConfig, plugin.isTaskHeightOffset(), plugin.getPathDrawDistance(), plugin.getPathDrawDistance());
+				return true;
 			}
 		}
+		return false;
+	}
+
+	/**
+	 * Drops the local routes, called when the scene is reloaded and local coordinates shift.
+	 */
+	void invalidateLocalRoutes()
+	{
+		localRoutes.clear();
+		originBoat = null;
+	}
+
+	/**
+	 * Looks up where world tile (0, 0) lies in local coordinates, only when the boat has moved onto another tile.
+	 *
+	 * @return the boat's position in the real world, or null when not sailing
+	 */
+	private WorldPoint updateOrigin()
+	{
+		WorldPoint boatWorldPoint = WorldPerspective.getBoatWorldPoint(client);
+		if (boatWorldPoint == null)
+		{
+			return null;
+		}
+		if (boatWorldPoint.equals(originBoat))
+		{
+			return boatWorldPoint;
+		}
+
+		LocalPoint boatLocalPoint = WorldPerspective.worldToLocal(client, boatWorldPoint);
+		if (boatLocalPoint == null)
+		{
+			invalidateLocalRoutes();
+			return null;
+		}
+
+		originBoat = boatWorldPoint;
+		int x = boatLocalPoint.getX() - boatWorldPoint.getX() * Perspective.LOCAL_TILE_SIZE;
+		int y = boatLocalPoint.getY() - boatWorldPoint.getY() * Perspective.LOCAL_TILE_SIZE;
+		if (x != originX || y != originY)
+		{
+			localRoutes.clear();
+			originX = x;
+			originY = y;
+		}
+		return boatWorldPoint;
 	}
-}
\ No newline at end of file
+}
@@ -189,4 +189,20 @@ public final class BountyTaskData
 	{
 		return BOUNTY_NPCS.contains(id);
 	}
+
+	/**
+	 * @return every port with a bounty ground among the loaded bounty tasks
+	 */
+	public static Set<PortLocation> getBountyLocations()
+	{
+		Set<PortLocation> locations = new HashSet<>();
+		for (BountyTaskData data : BY_ID.values())
+		{
+			if (data.bountyLocation != null)
+			{
+				locations.add(data.bountyLocation);
+			}
+		}
+		return locations;
+	}
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.enums;
+
+import net.runelite.api.gameval.ObjectID;
+
+/**
+ * The kinds of game object the plugin keeps track of, looked up by object id with a single array read.
+ */
+public enum ObjectKind
+{
+	GANGPLANK,
+	NOTICEBOARD,
+	LEDGER,
+	HELM,
+	CARGO_HOLD;
+
+	private static final int[] CARGO_HOLDS = {
+		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE_NO_CARGO,
+		ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE_CARGO
+	};
+	private static final ObjectKind[] VALUES = values();
+	// 1 + ordinal of each object id's kind, 0 for untracked objects
+	private static final byte[] KINDS;
+
+	static
+	{
+		int maxId = ObjectID.SAILING_INTRO_HELM_NOT_IN_USE;
+		for (int id : CARGO_HOLDS)
+		{
+			maxId = Math.max(maxId, id);
+		}
+		for (PortLocation port : PortLocation.values())
+		{
+			maxId = Math.max(maxId, Math.max(port.getGangplankObject(), Math.max(port.getNoticeboardObject(), port.getLedgerObject())));
+		}
+		maxId = Math.max(maxId, ObjectID.SAILING_GANGPLANK_PROXY);
+
+		// filled from the lowest precedence up, later kinds overwrite earlier ones. An id matching more than one kind
+		// keeps the one spawn handling used to check first: gangplank, noticeboard, ledger, helm, then cargo hold
+		byte[] kinds = new byte[maxId + 1];
+		for (int id : CARGO_HOLDS)
+		{
+			put(kinds, id, CARGO_HOLD);
+		}
+		for (int id = ObjectID.SAILING_BOAT_STEERING_KANDARIN_1X3_WOOD; id <= ObjectID.SAILING_INTRO_HELM_NOT_IN_USE; id++)
+		{
+			put(kinds, id, HELM);
+		}
+		for (PortLocation port : PortLocation.values())
+		{
+			put(kinds, port.getLedgerObject(), LEDGER);
+		}
+		for (PortLocation port : PortLocation.values())
+		{
+			put(kinds, port.getNoticeboardObject(), NOTICEBOARD);
+		}
+		for (PortLocation port : PortLocation.values())
+		{
+			put(kinds, port.getGangplankObject(), GANGPLANK);
+		}
+		put(kinds, ObjectID.SAILING_GANGPLANK_PROXY, GANGPLANK);
+		KINDS = kinds;
+	}
+
+	/**
+	 * @return the kind of the object, or null if the plugin doesn't track it
+	 */
+	public static ObjectKind of(int objectId)
+	{
+		if (objectId < 0 || objectId >= KINDS.length)
+		{
+			return null;
+		}
+		int kind = KINDS[objectId];
+		return kind == 0 ? null : VALUES[kind - 1];
+	}
+
+	private static void put(byte[] kinds, int objectId, ObjectKind kind)
+	{
+		// ports without one of the objects use -1
+		if (objectId >= 0)
+		{
+			kinds[objectId] = (byte) (kind.ordinal() + 1);
+		}
+	}
+}
@@ -26,11 +26,8 @@
  */
 package com.nucleon.porttasks.enums;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import lombok.Getter;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.gameval.ObjectID;
@@ -79,9 +76,6 @@ public enum PortLocation
 	private final int ledgerObject;
 	private final WorldPoint navigationLocation;
 
-	private static final Set<Integer> GANGPLANK_IDS;
-	private static final Set<Integer> NOTICEBOARD_IDS;
-	private static final Set<Integer> LEDGER_IDS;
 	private static final Map<Integer, PortLocation> BY_DBROW = new HashMap<>();
 
 
@@ -99,37 +93,10 @@ public enum PortLocation
 
 	static
 	{
-		Set<Integer> gangplanks = new HashSet<>();
-		Set<Integer> noticeboards = new HashSet<>();
-		Set <Integer> ledgers = new HashSet<>();
 		for (PortLocation p : values())
 		{
 			BY_DBROW.put(p.dbrow, p);
-			gangplanks.add(p.gangplankObject);
-			ledgers.add(p.ledgerObject);
-			if (p.noticeboardObject != -1)
-			{
-				noticeboards.add(p.noticeboardObject);
-			}
 		}
-		GANGPLANK_IDS = Collections.unmodifiableSet(gangplanks);
-		NOTICEBOARD_IDS = Collections.unmodifiableSet(noticeboards);
-		LEDGER_IDS = Collections.unmodifiableSet(ledgers);
-	}
-
-	public static boolean isGangplank(int objectId)
-	{
-		return GANGPLANK_IDS.contains(objectId);
-	}
-
-	public static boolean isNoticeboard(int objectId)
-	{
-		return NOTICEBOARD_IDS.contains(objectId);
-	}
-
-	public static boolean isLedger(int objectId)
-	{
-		return LEDGER_IDS.contains(objectId);
 	}
 
 	public static PortLocation fromDbRow(int dbrow)
@@ -24,50 +24,26 @@
  * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package com.nucleon.porttasks;
+package com.nucleon.porttasks.geofence;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 
-public final class RelativeMove
+/**
+ * Posted to the event bus when the boat or the player enters or leaves a {@link Geofence}.
+ */
+@Getter
+@AllArgsConstructor
+public final class GeofenceEvent
 {
-	private final int dx;
-	private final int dy;
-
-	public RelativeMove(int dx, int dy)
-	{
-		this.dx = dx;
-		this.dy = dy;
-	}
-
-	public int getDx()
-	{
-		return dx;
-	}
-
-	public int getDy()
+	public enum Subject
 	{
-		return dy;
+		BOAT,
+		PLAYER
 	}
 
-	@Override
-	public String toString()
-	{
-		return String.format("(%+d, %+d)", dx, dy);
-	}
-
-	@Override
-	public boolean equals(Object obj)
-	{
-		if (this == obj) return true;
-		if (obj == null || getClass() != obj.getClass()) return false;
-		RelativeMove other = (RelativeMove) obj;
-		return dx == other.dx && dy == other.dy;
-	}
-
-	@Override
-	public int hashCode()
-	{
-		int result = Integer.hashCode(dx);
-		result = 31 * result + Integer.hashCode(dy);
-		return result;
-	}
+	private final Geofence geofence;
+	private final Subject subject;
+	// false when the subject has left the geofence
+	private final boolean entered;
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.geofence;
+
+import com.nucleon.porttasks.overlay.Zone;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Spatial hash of geofences by the map regions their zones overlap, so a position is only tested
+ * against the few geofences near it.
+ */
+final class GeofenceIndex
+{
+	// tiles per cell side, one map region
+	private static final int CELL_SHIFT = 6;
+
+	private final Map<Integer, List<Geofence>> cells = new HashMap<>();
+
+	void add(Geofence geofence)
+	{
+		Zone zone = geofence.getZone();
+		for (int x = zone.getMinX() >> CELL_SHIFT; x <= zone.getMaxX() >> CELL_SHIFT; x++)
+		{
+			for (int y = zone.getMinY() >> CELL_SHIFT; y <= zone.getMaxY() >> CELL_SHIFT; y++)
+			{
+				cells.computeIfAbsent(getCell(x, y), cell -> new ArrayList<>()).add(geofence);
+			}
+		}
+	}
+
+	void remove(Geofence geofence)
+	{
+		Zone zone = geofence.getZone();
+		for (int x = zone.getMinX() >> CELL_SHIFT; x <= zone.getMaxX() >> CELL_SHIFT; x++)
+		{
+			for (int y = zone.getMinY() >> CELL_SHIFT; y <= zone.getMaxY() >> CELL_SHIFT; y++)
+			{
+				List<Geofence> cell = cells.get(getCell(x, y));
+				if (cell != null)
+				{
+					cell.remove(geofence);
+				}
+			}
+		}
+	}
+
+	void clear()
+	{
+		cells.clear();
+	}
+
+	/**
+	 * Adds every geofence containing {@code point} to {@code out}.
+	 */
+	void collect(WorldPoint point, Collection<Geofence> out)
+	{
+		List<Geofence> cell = cells.get(getCell(point.getX() >> CELL_SHIFT, point.getY() >> CELL_SHIFT));
+		if (cell == null)
+		{
+			return;
+		}
+
+		for (Geofence geofence : cell)
+		{
+			if (geofence.getZone().contains(point))
+			{
+				out.add(geofence);
+			}
+		}
+	}
+
+	private static int getCell(int x, int y)
+	{
+		return x << 16 | y;
+	}
+}
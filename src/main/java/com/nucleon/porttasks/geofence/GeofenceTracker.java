@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.geofence;
+
+import com.nucleon.porttasks.enums.BountyTaskData;
+import com.nucleon.porttasks.enums.PortLocation;
+import com.nucleon.porttasks.overlay.WorldPerspective;
+import com.nucleon.porttasks.overlay.Zone;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.Player;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.eventbus.EventBus;
+
+/**
+ * Tests the boat and the player against the geofences around every port, spawned ledger and bounty
+ * ground once per game tick, posting a {@link GeofenceEvent} for each one entered or left.
+ * <p>
+ * Ledger geofences are kept by the ledger's location across a scene load, so a ledger that spawns again
+ * in the same place keeps its geofence and nobody standing at it is reported as leaving and re-entering.
+ */
+@Singleton
+public class GeofenceTracker
+{
+	// how far in tiles each kind of geofence reaches from the point it surrounds
+	private static final int PORT_RADIUS = 16;
+	private static final int LEDGER_RADIUS = 3;
+	private static final int BOUNTY_GROUND_RADIUS = 32;
+
+	private final Client client;
+	private final EventBus eventBus;
+	private final GeofenceIndex index = new GeofenceIndex();
+	// by the ledger's location, which stays the same when it spawns again after a scene load
+	private final Map<WorldPoint, Geofence> ledgers = new HashMap<>();
+	// ledgers not seen again since the scene started loading, dropped on the first tick after it
+	private final Set<WorldPoint> staleLedgers = new HashSet<>();
+	private boolean reloading;
+	// geofences each subject was inside of on the last tick
+	private final Set<Geofence> boatInside = new HashSet<>();
+	private final Set<Geofence> playerInside = new HashSet<>();
+	private final Set<Geofence> scratch = new HashSet<>();
+	private boolean built;
+
+	@Inject
+	GeofenceTracker(Client client, EventBus eventBus)
+	{
+		this.client = client;
+		this.eventBus = eventBus;
+	}
+
+	/**
+	 * Called on each game tick.
+	 */
+	public void update()
+	{
+		WorldPoint boatWorldPoint = WorldPerspective.getBoatWorldPoint(client);
+
+		// aboard a boat the player goes wherever it goes
+		WorldPoint playerWorldPoint = boatWorldPoint;
+		Player player = client.getLocalPlayer();
+		if (playerWorldPoint == null && player != null)
+		{
+			playerWorldPoint = WorldPoint.fromLocalInstance(client, player.getLocalLocation());
+		}
+		update(boatWorldPoint, playerWorldPoint);
+	}
+
+	/**
+	 * Runs a tick with the boat and player at the given positions, either of which may be null.
+	 */
+	void update(WorldPoint boatWorldPoint, WorldPoint playerWorldPoint)
+	{
+		if (!built)
+		{
+			addStaticGeofences();
+			built = true;
+		}
+		dropStaleLedgers();
+
+		track(GeofenceEvent.Subject.BOAT, boatWorldPoint);
+		track(GeofenceEvent.Subject.PLAYER, playerWorldPoint);
+	}
+
+	/**
+	 * @return the geofences {@code subject} was inside of on the last tick
+	 */
+	public Set<Geofence> getInside(GeofenceEvent.Subject subject)
+	{
+		return Collections.unmodifiableSet(subject == GeofenceEvent.Subject.BOAT ? boatInside : playerInside);
+	}
+
+	public void addLedger(GameObject ledger)
+	{
+		PortLocation port = getLedgerPort(ledger.getId());
+		WorldPoint location = ledger.getWorldLocation();
+		if (port == null || location == null)
+		{
+			return;
+		}
+
+		staleLedgers.remove(location);
+		if (ledgers.containsKey(location))
+		{
+			// spawned again after a scene load, the geofence and who is inside it carry over
+			return;
+		}
+
+		Geofence geofence = new Geofence(GeofenceType.LEDGER, port, around(location, LEDGER_RADIUS));
+		ledgers.put(location, geofence);
+		index.add(geofence);
+	}
+
+	public void removeLedger(GameObject ledger)
+	{
+		WorldPoint location = ledger.getWorldLocation();
+		if (location == null || !ledgers.containsKey(location))
+		{
+			return;
+		}
+
+		if (reloading)
+		{
+			// it may spawn again once the scene is loaded
+			staleLedgers.add(location);
+			return;
+		}
+		removeGeofence(ledgers.remove(location));
+	}
+
+	/**
+	 * Called when the scene starts to reload. The ledgers are kept until the first tick after it, and only
+	 * the ones that did not spawn again are then dropped.
+	 */
+	public void reloadLedgers()
+	{
+		reloading = true;
+		staleLedgers.addAll(ledgers.keySet());
+	}
+
+	/**
+	 * Forgets every geofence and where the boat and player were, without posting any events.
+	 */
+	public void reset()
+	{
+		index.clear();
+		ledgers.clear();
+		staleLedgers.clear();
+		reloading = false;
+		boatInside.clear();
+		playerInside.clear();
+		built = false;
+	}
+
+	private void track(GeofenceEvent.Subject subject, WorldPoint point)
+	{
+		Set<Geofence> inside = subject == GeofenceEvent.Subject.BOAT ? boatInside : playerInside;
+		Set<Geofence> now = scratch;
+		now.clear();
+		if (point != null)
+		{
+			index.collect(point, now);
+		}
+
+		for (Geofence geofence : inside)
+		{
+			if (!now.contains(geofence))
+			{
+				eventBus.post(new GeofenceEvent(geofence, subject, false));
+			}
+		}
+		for (Geofence geofence : now)
+		{
+			if (!inside.contains(geofence))
+			{
+				eventBus.post(new GeofenceEvent(geofence, subject, true));
+			}
+		}
+
+		inside.clear();
+		inside.addAll(now);
+	}
+
+	private void addStaticGeofences()
+	{
+		for (PortLocation port : PortLocation.values())
+		{
+			if (port != PortLocation.EMPTY)
+			{
+				index.add(new Geofence(GeofenceType.PORT, port, around(port.getNavigationLocation(), PORT_RADIUS)));
+			}
+		}
+
+		for (PortLocation port : BountyTaskData.getBountyLocations())
+		{
+			if (port != PortLocation.EMPTY)
+			{
+				index.add(new Geofence(GeofenceType.BOUNTY_GROUND, port, around(port.getNavigationLocation(), BOUNTY_GROUND_RADIUS)));
+			}
+		}
+	}
+
+	private void dropStaleLedgers()
+	{
+		reloading = false;
+		for (WorldPoint location : staleLedgers)
+		{
+			removeGeofence(ledgers.remove(location));
+		}
+		staleLedgers.clear();
+	}
+
+	// a removed geofence can't be left any more, so it counts as left now
+	private void removeGeofence(Geofence geofence)
+	{
+		index.remove(geofence);
+		if (boatInside.remove(geofence))
+		{
+			eventBus.post(new GeofenceEvent(geofence, GeofenceEvent.Subject.BOAT, false));
+		}
+		if (playerInside.remove(geofence))
+		{
+			eventBus.post(new GeofenceEvent(geofence, GeofenceEvent.Subject.PLAYER, false));
+		}
+	}
+
+	private static PortLocation getLedgerPort(int objectId)
+	{
+		for (PortLocation port : PortLocation.values())
+		{
+			if (port.getLedgerObject() == objectId)
+			{
+				return port;
+			}
+		}
+		return null;
+	}
+
+	private static Zone around(WorldPoint point, int radius)
+	{
+		return new Zone(point.dx(-radius).dy(-radius), point.dx(radius).dy(radius));
+	}
+}
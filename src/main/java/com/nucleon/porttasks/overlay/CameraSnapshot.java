@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import net.runelite.api.Client;
+
+/**
+ * Camera position, orientation and viewport captured once per frame, so projecting route
+ * segments does not go back to the client or recompute the rotation for every point.
+ * Equal snapshots project every point to the same place on the canvas, which is what lets
+ * {@link RouteGeometryWorker} skip a {@link RouteScene} that has not changed since the last frame.
+ */
+@Getter
+@EqualsAndHashCode
+public final class CameraSnapshot
+{
+	private final float x;
+	private final float y;
+	private final float z;
+	private final float pitchSin;
+	private final float pitchCos;
+	private final float yawSin;
+	private final float yawCos;
+	private final float viewportXMiddle;
+	private final float viewportYMiddle;
+	private final float viewportXOffset;
+	private final float viewportYOffset;
+	private final float zoom;
+
+	private CameraSnapshot(Client client)
+	{
+		final double cameraPitch = client.getCameraFpPitch();
+		final double cameraYaw = client.getCameraFpYaw();
+
+		x = (float) client.getCameraFpX();
+		y = (float) client.getCameraFpY();
+		z = (float) client.getCameraFpZ();
+		pitchSin = (float) Math.sin(cameraPitch);
+		pitchCos = (float) Math.cos(cameraPitch);
+		yawSin = (float) Math.sin(cameraYaw);
+		yawCos = (float) Math.cos(cameraYaw);
+		viewportXMiddle = client.getViewportWidth() / 2f;
+		viewportYMiddle = client.getViewportHeight() / 2f;
+		viewportXOffset = client.getViewportXOffset();
+		viewportYOffset = client.getViewportYOffset();
+		zoom = client.getScale();
+	}
+
+	public static CameraSnapshot capture(Client client)
+	{
+		return new CameraSnapshot(client);
+	}
+}
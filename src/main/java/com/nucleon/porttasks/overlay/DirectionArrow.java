@@ -231,7 +231,8 @@ public class DirectionArrow
 		tx.translate(line.x2, line.y2);
 		tx.rotate((angle - Math.PI / 2d));
 		Graphics2D graphics2D = (Graphics2D) g2d.create();
-		graphics2D.setTransform(tx);
+		// composed with the caller's transform, the world map layer draws lines shifted into its cached image
+		graphics2D.transform(tx);
 		graphics2D.fill(arrowHead);
 		graphics2D.dispose();
 	}
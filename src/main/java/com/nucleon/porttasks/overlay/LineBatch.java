@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Stroke;
+import java.awt.geom.Path2D;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Screen space line segments collected for a frame and grouped by stroke and color, so every
+ * group is stroked with a single draw call instead of one polygon per segment.
+ */
+public class LineBatch
+{
+	private static final Map<Float, BasicStroke> STROKES = new HashMap<>();
+
+	// paths are kept between frames and reset after drawing, so their buffers are reused
+	private final Map<BasicStroke, Map<Color, Path2D.Float>> paths = new LinkedHashMap<>();
+
+	/**
+	 * @return a shared stroke of the given width
+	 */
+	public static BasicStroke getStroke(float width)
+	{
+		return STROKES.computeIfAbsent(width, BasicStroke::new);
+	}
+
+	public void add(BasicStroke stroke, Color color, int x1, int y1, int x2, int y2)
+	{
+		Path2D.Float path = paths.computeIfAbsent(stroke, s -> new LinkedHashMap<>()).computeIfAbsent(color, c -> new Path2D.Float());
+		path.moveTo(x1, y1);
+		path.lineTo(x2, y2);
+		// closed like the two point polygons it replaces, so the line ends keep their joins
+		path.closePath();
+	}
+
+	/**
+	 * Strokes everything added since the last reset, leaving the batch as it is.
+	 */
+	public void draw(Graphics2D graphics)
+	{
+		Stroke originalStroke = graphics.getStroke();
+		Color originalColor = graphics.getColor();
+		for (Map.Entry<BasicStroke, Map<Color, Path2D.Float>> entry : paths.entrySet())
+		{
+			graphics.setStroke(entry.getKey());
+			for (Map.Entry<Color, Path2D.Float> group : entry.getValue().entrySet())
+			{
+				if (group.getValue().getCurrentPoint() != null)
+				{
+					graphics.setColor(group.getKey());
+					graphics.draw(group.getValue());
+				}
+			}
+		}
+		graphics.setStroke(originalStroke);
+		graphics.setColor(originalColor);
+	}
+
+	/**
+	 * Empties the batch, keeping the paths of the colors that were in use.
+	 */
+	public void reset()
+	{
+		for (Iterator<Map<Color, Path2D.Float>> strokes = paths.values().iterator(); strokes.hasNext(); )
+		{
+			Map<Color, Path2D.Float> colors = strokes.next();
+			for (Iterator<Path2D.Float> groups = colors.values().iterator(); groups.hasNext(); )
+			{
+				Path2D.Float path = groups.next();
+				if (path.getCurrentPoint() == null)
+				{
+					// nothing was added since the last reset, drop colors that are no longer in use
+					groups.remove();
+					continue;
+				}
+				path.reset();
+			}
+			if (colors.isEmpty())
+			{
+				strokes.remove();
+			}
+		}
+	}
+}
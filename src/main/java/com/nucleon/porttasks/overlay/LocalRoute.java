@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import com.nucleon.porttasks.route.RoutePath;
+import com.nucleon.porttasks.route.RouteTiles;
+import lombok.Getter;
+import net.runelite.api.Perspective;
+
+/**
+ * A route's vertices, and tracer tiles once needed, converted to local coordinates around the boat.
+ * Only rebuilt when the boat moves onto another tile or the scene is reloaded, so projecting a frame
+ * reads plain ints.
+ */
+public final class LocalRoute
+{
+	@Getter
+	private final RoutePath path;
+	// local coordinates of world tile (0, 0)
+	private final int originX;
+	private final int originY;
+	// two ints (x, y) per vertex
+	private final int[] vertices;
+	// two ints (x, y) per tile of path.getTiles(), built by the first tracer projection
+	private int[] tiles;
+
+	public LocalRoute(RoutePath path, int originX, int originY)
+	{
+		this.path = path;
+		this.originX = originX;
+		this.originY = originY;
+		vertices = new int[path.size() * 2];
+		for (int i = 0; i < path.size(); i++)
+		{
+			vertices[i * 2] = originX + path.getX(i) * Perspective.LOCAL_TILE_SIZE;
+			vertices[i * 2 + 1] = originY + path.getY(i) * Perspective.LOCAL_TILE_SIZE;
+		}
+	}
+
+	public int getX(int index)
+	{
+		return vertices[index * 2];
+	}
+
+	public int getY(int index)
+	{
+		return vertices[index * 2 + 1];
+	}
+
+	public int getTileX(int tile)
+	{
+		return getTiles()[tile * 2];
+	}
+
+	public int getTileY(int tile)
+	{
+		return getTiles()[tile * 2 + 1];
+	}
+
+	// only called while preparing geometry, which happens one job at a time
+	private int[] getTiles()
+	{
+		if (tiles == null)
+		{
+			RouteTiles worldTiles = path.getTiles();
+			int count = worldTiles.getSegmentStart(Math.max(path.size() - 1, 0)) + 1;
+			int[] local = new int[count * 2];
+			for (int tile = 0; tile < count; tile++)
+			{
+				local[tile * 2] = originX + worldTiles.getX(tile) * Perspective.LOCAL_TILE_SIZE;
+				local[tile * 2 + 1] = originY + worldTiles.getY(tile) * Perspective.LOCAL_TILE_SIZE;
+			}
+			tiles = local;
+		}
+		return tiles;
+	}
+}
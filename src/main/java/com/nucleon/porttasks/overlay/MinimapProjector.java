@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.Player;
+import net.runelite.api.Point;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.widgets.Widget;
+
+/**
+ * Maps world tiles onto the minimap around the local player, resolved once per frame.
+ * Uses the same rotation as {@link WorldPerspective#getMinimapPoint}, and follows the player
+ * onto a boat by placing them in the top level world view through the boat's transform.
+ */
+public final class MinimapProjector
+{
+	// the player's real world tile, the minimap's center
+	@Getter
+	private WorldPoint center;
+	// how far from the center in tiles a point can still be on the minimap
+	@Getter
+	private int tileRange;
+	@Getter
+	private float radius;
+	// the player's offset in local units from the center of their tile
+	private int offsetX;
+	private int offsetY;
+	// canvas position of the minimap's center
+	@Getter
+	private float canvasX;
+	@Getter
+	private float canvasY;
+	// rotation by the camera yaw, scaled from local units to minimap pixels
+	private float scaleCos;
+	private float scaleSin;
+
+	/**
+	 * Resolves the minimap widget, zoom, camera yaw and the player's position for this frame.
+	 *
+	 * @return false when there is no minimap or player to draw around
+	 */
+	public boolean update(Client client)
+	{
+		Widget minimap = WorldPerspective.getMinimapDrawWidget(client);
+		Player player = client.getLocalPlayer();
+		if (minimap == null || minimap.isHidden() || player == null)
+		{
+			return false;
+		}
+
+		LocalPoint playerLocation = toTopLevel(client, player);
+		WorldPoint playerWorldPoint = playerLocation != null ? WorldPoint.fromLocalInstance(client, playerLocation) : null;
+		if (playerWorldPoint == null)
+		{
+			return false;
+		}
+
+		double pixelsPerTile = client.getMinimapZoom();
+		if (pixelsPerTile <= 0)
+		{
+			return false;
+		}
+
+		center = playerWorldPoint;
+		offsetX = (playerLocation.getX() & (Perspective.LOCAL_TILE_SIZE - 1)) - Perspective.LOCAL_TILE_SIZE / 2;
+		offsetY = (playerLocation.getY() & (Perspective.LOCAL_TILE_SIZE - 1)) - Perspective.LOCAL_TILE_SIZE / 2;
+
+		Point location = minimap.getCanvasLocation();
+		canvasX = location.getX() + minimap.getWidth() / 2;
+		canvasY = location.getY() + minimap.getHeight() / 2;
+		radius = Math.min(minimap.getWidth(), minimap.getHeight()) / 2f;
+		tileRange = (int) Math.ceil(radius / pixelsPerTile) + 1;
+
+		final int angle = client.getCameraYawTarget() & 0x7FF;
+		final float scale = (float) (pixelsPerTile / Perspective.LOCAL_TILE_SIZE / 65536);
+		scaleCos = Perspective.COSINE[angle] * scale;
+		scaleSin = Perspective.SINE[angle] * scale;
+		return true;
+	}
+
+	/**
+	 * Writes the minimap position of world tile ({@code worldX}, {@code worldY}) relative to the
+	 * minimap's center into {@code out} at {@code offset}.
+	 */
+	public void project(int worldX, int worldY, float[] out, int offset)
+	{
+		int x = (worldX - center.getX()) * Perspective.LOCAL_TILE_SIZE - offsetX;
+		int y = (worldY - center.getY()) * Perspective.LOCAL_TILE_SIZE - offsetY;
+		out[offset] = y * scaleSin + x * scaleCos;
+		out[offset + 1] = x * scaleSin - y * scaleCos;
+	}
+
+	private static LocalPoint toTopLevel(Client client, Player player)
+	{
+		LocalPoint location = player.getLocalLocation();
+		WorldView worldView = player.getWorldView();
+		if (location == null || worldView == null || worldView.isTopLevel())
+		{
+			return location;
+		}
+
+		// aboard a boat the player moves within its own world view, which the boat carries around the top level one
+		WorldEntity boat = client.getTopLevelWorldView().worldEntities().byIndex(worldView.getId());
+		return boat != null ? boat.transformToMainWorld(location) : null;
+	}
+}
@@ -76,7 +76,7 @@ public class NoticeBoardTooltip extends Overlay
 			Color isAtCurLocation = data.getNoticeBoard() == data.getCargoLocation() ? Color.WHITE : Color.RED;
 			String sourceColorTag = toColTag(isAtCurLocation);
 			String endTag = "</col>";
-			int distance = (int) Math.round(data.getDockMarkers().getDistance());
+			int distance = (int) Math.round(data.getDistance());
 
 			double xpPerTileRatio = data.getXpPerTileRatio();
 			int xpPerTilePercent = (int) Math.round(xpPerTileRatio * 100.0);
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import java.awt.BasicStroke;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Screen space route lines of a {@link RouteScene} before they are colored. While the camera and boat
+ * stay put they are only recolored, for the tracer pulse or a new task color, instead of projected again.
+ */
+public final class ProjectedLines
+{
+	// step of lines that are not part of a tracer
+	public static final int NO_STEP = -1;
+
+	private static final BasicStroke LINE_STROKE = LineBatch.getStroke(2);
+
+	private int size;
+	// four ints (x1, y1, x2, y2) per line
+	private int[] coordinates = new int[64 * 4];
+	// index of the line's route in the scene
+	private int[] routes = new int[64];
+	// tile step of the line within its segment and the segment's number of steps, for the tracer
+	private int[] steps = new int[64];
+	private int[] stepCounts = new int[64];
+
+	public void clear()
+	{
+		size = 0;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	void add(int route, int step, int stepCount, int[] screen)
+	{
+		if (size == routes.length)
+		{
+			int capacity = size * 2;
+			coordinates = Arrays.copyOf(coordinates, capacity * 4);
+			routes = Arrays.copyOf(routes, capacity);
+			steps = Arrays.copyOf(steps, capacity);
+			stepCounts = Arrays.copyOf(stepCounts, capacity);
+		}
+		System.arraycopy(screen, 0, coordinates, size * 4, 4);
+		routes[size] = route;
+		steps[size] = step;
+		stepCounts[size] = stepCount;
+		size++;
+	}
+
+	/**
+	 * Adds every line to {@code batch} in the colors of its route, with the tracer pulse of {@code scene}.
+	 */
+	public void fill(LineBatch batch, RouteScene scene)
+	{
+		List<TaskRoute> sceneRoutes = scene.getRoutes();
+		for (int line = 0; line < size; line++)
+		{
+			TaskRoute route = sceneRoutes.get(routes[line]);
+			boolean lit = steps[line] == NO_STEP || WorldLines.isPulse(steps[line], stepCounts[line], scene.getPulse());
+			int offset = line * 4;
+			batch.add(LINE_STROKE, lit ? route.getColor() : route.getDimmed(),
+				coordinates[offset], coordinates[offset + 1], coordinates[offset + 2], coordinates[offset + 3]);
+		}
+	}
+}
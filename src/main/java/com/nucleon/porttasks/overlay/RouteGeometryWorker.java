@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prepares the screen space route lines of each {@link RouteScene} on a thread of its own and
+ * publishes them through a pair of {@link LineBatch}es, leaving the overlay to only stroke them.
+ * Frames that change nothing are skipped, and the projection is kept while the camera and boat
+ * stay put.
+ * <p>
+ * Scenes are submitted from the client thread before the frame is rendered, and at most one is
+ * prepared at a time. The batch swapped out on publishing may still be drawn for the rest of that
+ * frame, but is only reused by the next job, which cannot be submitted before the frame is done.
+ * A job still running when the lines are cleared finishes, but its lines are never published.
+ */
+@Slf4j
+@Singleton
+public class RouteGeometryWorker
+{
+	private ExecutorService executor;
+	private final AtomicBoolean busy = new AtomicBoolean();
+	// bumped by clear, a job only publishes if it was submitted in the current generation
+	private int generation;
+	private volatile LineBatch front = new LineBatch();
+	// only touched by the job in flight
+	private LineBatch back = new LineBatch();
+	private final ProjectedLines projected = new ProjectedLines();
+	private RouteScene projectedScene;
+	private RouteScene lastScene;
+
+	/**
+	 * Starts the thread the scenes are prepared on.
+	 */
+	public void start()
+	{
+		executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+			.setNameFormat("port-tasks-route-geometry")
+			.setDaemon(true)
+			.build());
+	}
+
+	/**
+	 * Drops the published lines and stops the thread once any job in flight is done.
+	 */
+	public void shutDown()
+	{
+		clear();
+		if (executor != null)
+		{
+			executor.shutdown();
+			executor = null;
+		}
+	}
+
+	/**
+	 * Queues the scene to be prepared, unless it is unchanged since the last one or that is still being
+	 * prepared, in which case a later frame picks up the change.
+	 */
+	public void submit(RouteScene scene)
+	{
+		if (executor == null || scene.equals(lastScene) || !busy.compareAndSet(false, true))
+		{
+			return;
+		}
+		lastScene = scene;
+
+		int submitted;
+		synchronized (this)
+		{
+			submitted = generation;
+		}
+		executor.execute(() ->
+		{
+			try
+			{
+				// a still camera and boat only need the lines recolored, not projected again
+				if (!scene.hasSameGeometry(projectedScene))
+				{
+					projected.clear();
+					WorldLines.projectRoutes(projected, scene);
+					projectedScene = scene;
+				}
+
+				back.reset();
+				projected.fill(back, scene);
+				synchronized (this)
+				{
+					if (submitted == generation)
+					{
+						LineBatch published = back;
+						back = front;
+						front = published;
+					}
+				}
+			}
+			catch (RuntimeException e)
+			{
+				log.warn("Failed to prepare route geometry", e);
+			}
+			finally
+			{
+				busy.set(false);
+			}
+		});
+	}
+
+	/**
+	 * @return the lines of the most recently prepared scene, to be drawn but not modified
+	 */
+	public LineBatch getFront()
+	{
+		return front;
+	}
+
+	/**
+	 * Drops the published lines and forgets the last scene, so the next one is always prepared.
+	 */
+	public void clear()
+	{
+		synchronized (this)
+		{
+			generation++;
+			front = new LineBatch();
+		}
+		lastScene = null;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Everything needed to lay out the world route lines of a frame, captured on the client thread
+ * so the geometry can be prepared on another without touching the client.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public final class RouteScene
+{
+	private final CameraSnapshot camera;
+	private final WorldPoint boat;
+	// local coordinates of world tile (0, 0), relative to the boat so the routes follow the instance
+	private final int originX;
+	private final int originY;
+	private final float distanceClip;
+	private final int drawDistance;
+	private final boolean tracerEnabled;
+	private final int pulse;
+	private final List<TaskRoute> routes;
+
+	/**
+	 * @return whether both scenes project to the same lines, differing at most in their colors
+	 * and tracer pulse
+	 */
+	public boolean hasSameGeometry(RouteScene other)
+	{
+		if (other == null || !camera.equals(other.camera) || !Objects.equals(boat, other.boat)
+			|| originX != other.originX || originY != other.originY || distanceClip != other.distanceClip
+			|| drawDistance != other.drawDistance || tracerEnabled != other.tracerEnabled || routes.size() != other.routes.size())
+		{
+			return false;
+		}
+
+		for (int i = 0; i < routes.size(); i++)
+		{
+			TaskRoute route = routes.get(i);
+			TaskRoute otherRoute = other.routes.get(i);
+			if (route.getLocal() != otherRoute.getLocal() || route.getFirstSegment() != otherRoute.getFirstSegment() || route.getHeight() != otherRoute.getHeight())
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
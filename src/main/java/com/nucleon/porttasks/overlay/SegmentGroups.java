@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import java.util.Arrays;
+
+/**
+ * Visible route segments of a scene merged by their ends and height, so a stretch shared by several
+ * tracked routes is projected once and drawn striped in each route's color. Groups keep the order
+ * they were first seen in, and all storage is reused between projections.
+ */
+final class SegmentGroups
+{
+	private static final int EMPTY = -1;
+
+	private int size;
+	// five ints (x1, y1, x2, y2, height) per group
+	private int[] keys = new int[64 * 5];
+	// the first route the segment was seen on, and its index there
+	private int[] routes = new int[64];
+	private int[] segments = new int[64];
+	private int[] memberCounts = new int[64];
+	// members are chained from the group's first through memberNext
+	private int[] firstMembers = new int[64];
+	private int[] lastMembers = new int[64];
+	private int members;
+	private int[] memberRoutes = new int[64];
+	private int[] memberNext = new int[64];
+	// open addressing table of group indices, twice the group capacity
+	private int[] table = new int[128];
+
+	SegmentGroups()
+	{
+		Arrays.fill(table, EMPTY);
+	}
+
+	void clear()
+	{
+		if (size > 0)
+		{
+			Arrays.fill(table, EMPTY);
+		}
+		size = 0;
+		members = 0;
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Adds segment {@code segment} of {@code route}, merging it into the group of an identical
+	 * segment if one was added before.
+	 */
+	void add(int route, int segment, int x1, int y1, int x2, int y2, int height)
+	{
+		int mask = table.length - 1;
+		int slot = hash(x1, y1, x2, y2, height) & mask;
+		while (table[slot] != EMPTY)
+		{
+			int group = table[slot];
+			int key = group * 5;
+			if (keys[key] == x1 && keys[key + 1] == y1 && keys[key + 2] == x2 && keys[key + 3] == y2 && keys[key + 4] == height)
+			{
+				addMember(group, route);
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		if (size == routes.length)
+		{
+			grow();
+			add(route, segment, x1, y1, x2, y2, height);
+			return;
+		}
+
+		int group = size++;
+		int key = group * 5;
+		keys[key] = x1;
+		keys[key + 1] = y1;
+		keys[key + 2] = x2;
+		keys[key + 3] = y2;
+		keys[key + 4] = height;
+		routes[group] = route;
+		segments[group] = segment;
+		memberCounts[group] = 0;
+		firstMembers[group] = EMPTY;
+		table[slot] = group;
+		addMember(group, route);
+	}
+
+	/**
+	 * Like {@link #add}, but merges the segment with one running the other way between the same ends.
+	 */
+	void addUndirected(int route, int segment, int x1, int y1, int x2, int y2, int height)
+	{
+		if (x2 < x1 || (x2 == x1 && y2 < y1))
+		{
+			add(route, segment, x2, y2, x1, y1, height);
+		}
+		else
+		{
+			add(route, segment, x1, y1, x2, y2, height);
+		}
+	}
+
+	int getRoute(int group)
+	{
+		return routes[group];
+	}
+
+	int getSegment(int group)
+	{
+		return segments[group];
+	}
+
+	int getMemberCount(int group)
+	{
+		return memberCounts[group];
+	}
+
+	/**
+	 * @return the route of the group's {@code index}th member, in the order they were added
+	 */
+	int getMemberRoute(int group, int index)
+	{
+		int member = firstMembers[group];
+		for (int i = 0; i < index; i++)
+		{
+			member = memberNext[member];
+		}
+		return memberRoutes[member];
+	}
+
+	private void addMember(int group, int route)
+	{
+		if (members == memberRoutes.length)
+		{
+			memberRoutes = Arrays.copyOf(memberRoutes, members * 2);
+			memberNext = Arrays.copyOf(memberNext, members * 2);
+		}
+
+		int member = members++;
+		memberRoutes[member] = route;
+		memberNext[member] = EMPTY;
+		if (firstMembers[group] == EMPTY)
+		{
+			firstMembers[group] = member;
+		}
+		else
+		{
+			memberNext[lastMembers[group]] = member;
+		}
+		lastMembers[group] = member;
+		memberCounts[group]++;
+	}
+
+	private void grow()
+	{
+		int capacity = routes.length * 2;
+		keys = Arrays.copyOf(keys, capacity * 5);
+		routes = Arrays.copyOf(routes, capacity);
+		segments = Arrays.copyOf(segments, capacity);
+		memberCounts = Arrays.copyOf(memberCounts, capacity);
+		firstMembers = Arrays.copyOf(firstMembers, capacity);
+		lastMembers = Arrays.copyOf(lastMembers, capacity);
+
+		// rehash the existing groups into the larger table
+		table = new int[capacity * 2];
+		Arrays.fill(table, EMPTY);
+		int mask = table.length - 1;
+		for (int group = 0; group < size; group++)
+		{
+			int key = group * 5;
+			int slot = hash(keys[key], keys[key + 1], keys[key + 2], keys[key + 3], keys[key + 4]) & mask;
+			while (table[slot] != EMPTY)
+			{
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = group;
+		}
+	}
+
+	private static int hash(int x1, int y1, int x2, int y2, int height)
+	{
+		int hash = x1;
+		hash = hash * 31 + y1;
+		hash = hash * 31 + x2;
+		hash = hash * 31 + y2;
+		hash = hash * 31 + height;
+		// spread the low bits, which index the table
+		return hash ^ (hash >>> 16);
+	}
+}
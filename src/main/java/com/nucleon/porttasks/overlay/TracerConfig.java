@@ -7,6 +7,9 @@ import net.runelite.api.events.BeforeRender;
 import net.runelite.client.eventbus.Subscribe;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.awt.Color;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TracerConfig
 {
@@ -16,13 +19,14 @@ public class TracerConfig
 	@Setter
 	private int tracerSpeed = 30;
 	@Getter
-	@Setter
 	private float tracerIntensity = 0.6f;
 	@Getter
 	@Setter
 	private boolean tracerEnabled;
 	private long lastUpdateNanos = 0;
 	private final PortTasksConfig config;
+	// dimmed shade of each task overlay color at the current intensity, written from the client and swing threads
+	private final Map<Color, Color> dimmedColors = new ConcurrentHashMap<>();
 
 	@Inject
 	@Singleton
@@ -51,7 +55,39 @@ public class TracerConfig
 	public void loadConfigs(PortTasksConfig config)
 	{
 		this.tracerEnabled = config.enableTracer();
-		this.tracerIntensity = 1f - (config.tracerIntensity() / 100f);
 		this.tracerSpeed = config.tracerSpeed();
+		setTracerIntensity(1f - (config.tracerIntensity() / 100f));
+	}
+
+	public void setTracerIntensity(float tracerIntensity)
+	{
+		this.tracerIntensity = tracerIntensity;
+		dimmedColors.clear();
+	}
+
+	/**
+	 * @return the shade drawn between pulses for a task of the given color, shared between frames
+	 */
+	public Color getDimmedColor(Color color)
+	{
+		return dimmedColors.computeIfAbsent(color, c -> dimColor(c, tracerIntensity));
+	}
+
+	/**
+	 * Drops the cached shades, called when a task's overlay color is changed.
+	 */
+	public void clearDimmedColors()
+	{
+		dimmedColors.clear();
+	}
+
+	private static Color dimColor(Color color, float factor)
+	{
+		factor = Math.min(Math.max(factor, 0f), 1f);
+		int r = (int)(color.getRed() * factor);
+		int g = (int)(color.getGreen() * factor);
+		int b = (int)(color.getBlue() * factor);
+		int a = (int)(color.getAlpha() * factor);
+		return new Color(r, g, b, a);
 	}
 }
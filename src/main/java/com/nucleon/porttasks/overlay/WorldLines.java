@@ -29,281 +29,437 @@
 
 package com.nucleon.porttasks.overlay;
 
-import java.util.ArrayList;
-
-import com.nucleon.porttasks.CourierTask;
-import net.runelite.api.Client;
+import com.nucleon.porttasks.route.RouteChunks;
+import com.nucleon.porttasks.route.RoutePath;
+import com.nucleon.porttasks.route.RouteTiles;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
-import net.runelite.api.WorldEntity;
-import net.runelite.api.WorldView;
-import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
-import net.runelite.client.ui.overlay.OverlayUtil;
 
 import javax.annotation.Nonnull;
 import java.awt.*;
 import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
 import java.util.Collections;
 import java.util.List;
 
 public class WorldLines
 {
-	public static void createWorldMapLines(Graphics2D graphics, Client client, List<WorldPoint> linePoints, Color color)
+	// how far in pixels a simplified world map line may stray from the real route
+	private static final float MAP_PIXEL_TOLERANCE = 1f;
+	// tile steps per tracer pulse
+	private static final int TRACER_CHUNK_SIZE = 50;
+	private static final float NEAR_PLANE = 50; // arbitrary near plane
+	// offsets of the two ends, and a copy of the first, in the camera space scratch buffer
+	private static final int P1 = 0;
+	private static final int P2 = 3;
+	private static final int P1_ORIGINAL = 6;
+	// reused by every projected segment, route geometry is prepared by one job at a time
+	private static final float[] CAMERA_SCRATCH = new float[9];
+	private static final int[] SCREEN_SCRATCH = new int[4];
+	private static final int[] STRIPE_SCRATCH = new int[4];
+	private static final SegmentGroups SEGMENT_GROUPS = new SegmentGroups();
+	// chunks of a route near the boat, grown to the longest route seen
+	private static int[] chunkScratch = new int[64];
+	// camera space position of the last line's end, and the local point and camera it was transformed for
+	private static final float[] CACHED_VERTEX = new float[3];
+	private static CameraSnapshot cachedCamera;
+	private static int cachedX;
+	private static int cachedY;
+	private static int cachedZ;
+	// reused for every world map line, which are only drawn on the client thread
+	private static final Line2D.Double MAP_LINE = new Line2D.Double();
+	// minimap segment ends relative to the minimap's center, and the lines clipped to it
+	private static final float[] MINIMAP_SCRATCH = new float[4];
+	private static final Path2D.Float MINIMAP_PATH = new Path2D.Float();
+	private static final BasicStroke MINIMAP_STROKE = LineBatch.getStroke(2);
+
+	public static void createWorldMapLines(Graphics2D graphics, WorldMapProjector projector, RoutePath route, Color color)
 	{
-		Rectangle mapViewArea = WorldPerspective.getWorldMapClipArea(client);
+		createWorldMapLines(graphics, projector, route, 0, color);
+	}
 
-		for (int i = 0; i < linePoints.size() - 1; i++)
+	/**
+	 * Draws the route from the segment at {@code fromSegment} onwards, simplified to what is
+	 * distinguishable at the current world map zoom.
+	 */
+	public static void createWorldMapLines(Graphics2D graphics, WorldMapProjector projector, RoutePath route, int fromSegment, Color color)
+	{
+		if (fromSegment >= route.size())
 		{
-			Point startPoint = WorldPerspective.mapWorldPointToGraphicsPoint(client, linePoints.get(i));
-			Point endPoint = WorldPerspective.mapWorldPointToGraphicsPoint(client, linePoints.get(i + 1));
+			return;
+		}
 
-			WorldLines.renderWorldMapLine(graphics, client, mapViewArea, startPoint, endPoint, color);
+		int[] vertices = route.getSimplifiedIndices(MAP_PIXEL_TOLERANCE / projector.getPixelsPerTile());
+		// each vertex is projected once and carried over as the start of the next segment
+		int count = projector.project(route, fromSegment, vertices);
+		int[] xs = projector.getXs();
+		int[] ys = projector.getYs();
+		for (int i = 1; i < count; i++)
+		{
+			renderWorldMapLine(graphics, projector.getClip(), xs[i - 1], ys[i - 1], xs[i], ys[i], color);
 		}
 	}
 
-	public static void renderWorldMapLine(Graphics2D graphics, Client client, Rectangle mapViewArea, Point startPoint, Point endPoint, Color color)
+	private static void renderWorldMapLine(Graphics2D graphics, Rectangle mapViewArea, int x1, int y1, int x2, int y2, Color color)
 	{
-		if (mapViewArea == null || startPoint == null || endPoint == null)
+		if (x1 == WorldMapProjector.OFF_MAP || x2 == WorldMapProjector.OFF_MAP)
 		{
 			return;
 		}
-		if (!mapViewArea.contains(startPoint.getX(), startPoint.getY()) && !mapViewArea.contains(endPoint.getX(), endPoint.getY()))
+		if (!mapViewArea.contains(x1, y1) && !mapViewArea.contains(x2, y2))
 		{
 			return;
 		}
 
-		Line2D.Double line = new Line2D.Double(startPoint.getX(), startPoint.getY(), endPoint.getX(), endPoint.getY());
-		DirectionArrow.drawLine(graphics, line, color, WorldPerspective.getWorldMapClipArea(client));
+		MAP_LINE.setLine(x1, y1, x2, y2);
+		DirectionArrow.drawLine(graphics, MAP_LINE, color, mapViewArea);
 	}
 
-	public static void drawPortTaskLinesOnWorld(Graphics2D graphics, Client client, CourierTask task, TracerConfig tracerConfig, boolean offset, int clip, int drawDistance)
+
+	/**
+	 * Draws the part of the route from the segment at {@code fromSegment} onwards that lies on the minimap,
+	 * clipped to the minimap's circle.
+	 */
+	public static void createMinimapLines(Graphics2D graphics, MinimapProjector projector, RoutePath route, int fromSegment, Color color)
 	{
-		if (tracerConfig.isTracerEnabled())
+		WorldPoint center = projector.getCenter();
+		int tileRange = projector.getTileRange();
+		float[] ends = MINIMAP_SCRATCH;
+		Path2D.Float path = MINIMAP_PATH;
+		path.reset();
+
+		// index of the vertex last projected into the end of the scratch buffer
+		int projected = -1;
+		RouteChunks chunks = route.getChunks();
+		for (int chunk = chunks.getChunk(fromSegment); chunk < chunks.size(); chunk++)
 		{
-			renderTaskLinesTracer(graphics, client, task, clip, offset, tracerConfig, drawDistance);
+			if (chunks.distanceTo(chunk, center) > tileRange)
+			{
+				continue;
+			}
+
+			int end = chunks.getFirstSegment(chunk + 1);
+			for (int i = Math.max(chunks.getFirstSegment(chunk), fromSegment); i < end; i++)
+			{
+				// consecutive segments share a vertex, so it is only projected once
+				if (projected == i)
+				{
+					ends[0] = ends[2];
+					ends[1] = ends[3];
+				}
+				else
+				{
+					projector.project(route.getX(i), route.getY(i), ends, 0);
+				}
+				projector.project(route.getX(i + 1), route.getY(i + 1), ends, 2);
+				projected = i + 1;
+
+				addMinimapLine(path, ends, projector.getRadius(), projector.getCanvasX(), projector.getCanvasY());
+			}
 		}
-		else
+
+		graphics.setColor(color);
+		graphics.setStroke(MINIMAP_STROKE);
+		graphics.draw(path);
+	}
+
+	/**
+	 * Adds the part of the segment in {@code ends} that lies within {@code radius} of the minimap's center,
+	 * solving for where the segment crosses the circle.
+	 */
+	private static void addMinimapLine(Path2D.Float path, float[] ends, float radius, float canvasX, float canvasY)
+	{
+		final float x = ends[0];
+		final float y = ends[1];
+		final float dx = ends[2] - x;
+		final float dy = ends[3] - y;
+
+		// |start + t * d| = radius
+		final float a = dx * dx + dy * dy;
+		final float b = 2 * (x * dx + y * dy);
+		final float c = x * x + y * y - radius * radius;
+		if (a == 0)
+		{
+			return;
+		}
+		final float discriminant = b * b - 4 * a * c;
+		if (discriminant <= 0)
 		{
-			renderTaskLines(graphics, client, task, clip, offset, drawDistance);
+			return;
 		}
+
+		final float root = (float) Math.sqrt(discriminant);
+		final float t1 = Math.max((-b - root) / (2 * a), 0);
+		final float t2 = Math.min((-b + root) / (2 * a), 1);
+		if (t1 >= t2)
+		{
+			return;
+		}
+
+		path.moveTo(canvasX + x + t1 * dx, canvasY + y + t1 * dy);
+		path.lineTo(canvasX + x + t2 * dx, canvasY + y + t2 * dy);
 	}
 
-	private static void renderTaskLines(Graphics2D g, Client client, CourierTask task, int clip, boolean offset, int drawDistance)
+	/**
+	 * Captures what the world route lines depend on this frame, on the client thread.
+	 *
+	 * @param boatWorldPoint the boat's position in the real world, or null when not sailing
+	 * @param routes the tracked task routes, converted to local coordinates from {@code originX} and {@code originY}
+	 * @param clip distance in tiles past which lines are cut off
+	 */
+	public static RouteScene captureScene(CameraSnapshot camera, WorldPoint boatWorldPoint, int originX, int originY, List<TaskRoute> routes, TracerConfig tracerConfig, int clip, int drawDistance)
 	{
-		int heightOffset = offset ? (task.getSlot() * 100) : 0;
-		clip += (clip * 128);
-		WorldView playerWorldView = client.getLocalPlayer().getWorldView();
-		WorldPoint playerWorldPoint = client.getLocalPlayer().getWorldLocation();
-		if (playerWorldView == null || playerWorldPoint == null)
+		if (boatWorldPoint == null)
+		{
+			return new RouteScene(camera, null, 0, 0, 0, drawDistance, false, 0, Collections.emptyList());
+		}
+
+		float distanceClip = clip + (clip * 128);
+		boolean tracer = tracerConfig.isTracerEnabled();
+		int pulse = tracer ? tracerConfig.getFrameTick() % TRACER_CHUNK_SIZE : 0;
+		return new RouteScene(camera, boatWorldPoint, originX, originY, distanceClip, drawDistance, tracer, pulse, routes);
+	}
+
+	/**
+	 * Projects the visible part of every route in the scene into {@code out}, uncolored so the tracer
+	 * pulse can move without projecting again. Segments shared by several routes are projected once and
+	 * split between them. Only reads the scene, so it may run off the client thread, but not from two
+	 * threads at once.
+	 */
+	public static void projectRoutes(ProjectedLines out, RouteScene scene)
+	{
+		if (scene.getBoat() == null)
 		{
 			return;
 		}
 
-		WorldPoint boatMainWorldPoint = null;
-		if (!playerWorldView.isTopLevel() && playerWorldView.getId() != WorldView.TOPLEVEL)
+		List<TaskRoute> routes = scene.getRoutes();
+		SegmentGroups groups = SEGMENT_GROUPS;
+		groups.clear();
+		for (int route = 0; route < routes.size(); route++)
+		{
+			collectSegments(groups, scene, route, routes.get(route));
+		}
+
+		CameraSnapshot camera = scene.getCamera();
+		float distanceClip = scene.getDistanceClip();
+		for (int group = 0; group < groups.size(); group++)
 		{
-			WorldEntity playerWorldEntity = client.getTopLevelWorldView().worldEntities().byIndex(playerWorldView.getId());
-			if (playerWorldEntity != null)
+			TaskRoute route = routes.get(groups.getRoute(group));
+			LocalRoute journey = route.getLocal();
+			int segment = groups.getSegment(group);
+			int heightOffset = route.getHeight();
+
+			if (scene.isTracerEnabled())
 			{
-				boatMainWorldPoint = WorldPoint.fromLocalInstance(client, playerWorldEntity.getLocalLocation());
+				projectTracerSegment(out, camera, groups, group, journey, segment, heightOffset, distanceClip);
 			}
-
-			if (boatMainWorldPoint != null)
+			else
 			{
-				List<WorldPoint> journey = task.getData().dockMarkers.getFullPath();
-				Color overlayColor = task.getOverlayColor();
-				LocalPoint boatMainLocalPoint = WorldPerspective.worldToLocal(client, boatMainWorldPoint);
-
-				if (task.getData().reversePath)
-				{
-					Collections.reverse(journey);
-				}
-
-				for (int i = 0; i < journey.size() - 1; i++)
-				{
-					if (boatMainWorldPoint.distanceTo(journey.get(i)) > drawDistance)
-					{
-						continue;
-					}
-					renderLineWorld(g, client, boatMainWorldPoint, boatMainLocalPoint, journey.get(i), heightOffset, journey.get(i + 1), heightOffset, overlayColor, 2, (float) clip);
-				}
+				projectLine(out, camera, groups, group, ProjectedLines.NO_STEP, 0,
+					journey.getX(segment), journey.getY(segment), heightOffset,
+					journey.getX(segment + 1), journey.getY(segment + 1), heightOffset,
+					distanceClip);
 			}
 		}
 	}
-	private static void renderTaskLinesTracer(Graphics2D g, Client client, CourierTask task, int clip, boolean offset, TracerConfig tracerConfig, int drawDistance)
+
+	private static void collectSegments(SegmentGroups groups, RouteScene scene, int routeIndex, TaskRoute route)
 	{
-		int heightOffset = offset ? (task.getSlot() * 100) : 0;
-		clip += (clip * 128);
-		WorldView playerWorldView = client.getLocalPlayer().getWorldView();
-		WorldPoint playerWorldPoint = client.getLocalPlayer().getWorldLocation();
-		if (playerWorldView == null || playerWorldPoint == null)
+		CameraSnapshot camera = scene.getCamera();
+		WorldPoint boatWorldPoint = scene.getBoat();
+		int originX = scene.getOriginX();
+		int originY = scene.getOriginY();
+		float distanceClip = scene.getDistanceClip();
+		int drawDistance = scene.getDrawDistance();
+
+		RoutePath journey = route.getPath();
+		int firstSegment = route.getFirstSegment();
+		int heightOffset = route.getHeight();
+		// plain lines look the same either way round, tracer pulses run in the route's direction
+		boolean directed = scene.isTracerEnabled();
+
+		RouteChunks chunks = journey.getChunks();
+		if (chunkScratch.length < chunks.size())
 		{
-			return;
+			chunkScratch = new int[Math.max(chunks.size(), chunkScratch.length * 2)];
 		}
-
-		WorldPoint boatMainWorldPoint = null;
-		if (!playerWorldView.isTopLevel() && playerWorldView.getId() != WorldView.TOPLEVEL)
+		// the region grid narrows the route down to the chunks near the boat, so the cost doesn't grow with its length
+		int[] nearby = chunkScratch;
+		int candidates = chunks.findChunksNear(boatWorldPoint, drawDistance, nearby);
+		int firstChunk = chunks.getChunk(firstSegment);
+		for (int candidate = 0; candidate < candidates; candidate++)
 		{
-			WorldEntity playerWorldEntity = client.getTopLevelWorldView().worldEntities().byIndex(playerWorldView.getId());
-			if (playerWorldEntity != null)
+			int chunk = nearby[candidate];
+			// whole chunks out of draw distance, behind the camera or past the clip distance are skipped before any per-segment work
+			if (chunk < firstChunk || chunks.distanceTo(chunk, boatWorldPoint) > drawDistance || !isChunkVisible(camera, chunks, chunk, originX, originY, heightOffset, distanceClip))
 			{
-				boatMainWorldPoint = WorldPoint.fromLocalInstance(client, playerWorldEntity.getLocalLocation());
+				continue;
 			}
 
-			if (boatMainWorldPoint != null)
+			int end = chunks.getFirstSegment(chunk + 1);
+			for (int i = Math.max(chunks.getFirstSegment(chunk), firstSegment); i < end; i++)
 			{
-				List<WorldPoint> journey = task.getData().dockMarkers.getFullPath();
-				Color overlayColor = task.getOverlayColor();
-				LocalPoint boatMainLocalPoint = WorldPerspective.worldToLocal(client, boatMainWorldPoint);
-
-				if (task.getData().reversePath)
+				// only segments starting within draw distance of the boat are drawn
+				if (journey.distanceTo(i, boatWorldPoint) > drawDistance)
 				{
-					Collections.reverse(journey);
+					continue;
 				}
 
-				for (int i = 0; i < journey.size() - 1; i++)
+				if (directed)
 				{
-					if (boatMainWorldPoint.distanceTo(journey.get(i)) > drawDistance)
-					{
-						continue;
-					}
-
-					renderLineWorld(g, client, boatMainWorldPoint, boatMainLocalPoint, journey.get(i), heightOffset, journey.get(i + 1), heightOffset, overlayColor, 2, (float) clip, tracerConfig);
+					groups.add(routeIndex, i, journey.getX(i), journey.getY(i), journey.getX(i + 1), journey.getY(i + 1), heightOffset);
+				}
+				else
+				{
+					groups.addUndirected(routeIndex, i, journey.getX(i), journey.getY(i), journey.getX(i + 1), journey.getY(i + 1), heightOffset);
 				}
 			}
 		}
 	}
 
-	private static Color dimColor(Color color, float factor)
+	/**
+	 * Conservative test of a chunk's bounding box against the camera, false only when {@link #projectLine}
+	 * would reject every segment in it for being behind the near plane or wholly past the clip distance.
+	 */
+	private static boolean isChunkVisible(CameraSnapshot camera, RouteChunks chunks, int chunk, int originX, int originY, int height, float distanceClip)
 	{
-		factor = Math.min(Math.max(factor, 0f), 1f);
-		int r = (int)(color.getRed() * factor);
-		int g = (int)(color.getGreen() * factor);
-		int b = (int)(color.getBlue() * factor);
-		int a = (int)(color.getAlpha() * factor);
-		return new Color(r, g, b, a);
-	}
+		// box corners relative to the camera
+		final float minX = originX + chunks.getMinX(chunk) * Perspective.LOCAL_TILE_SIZE - camera.getX();
+		final float minY = originY + chunks.getMinY(chunk) * Perspective.LOCAL_TILE_SIZE - camera.getY();
+		final float maxX = originX + chunks.getMaxX(chunk) * Perspective.LOCAL_TILE_SIZE - camera.getX();
+		final float maxY = originY + chunks.getMaxY(chunk) * Perspective.LOCAL_TILE_SIZE - camera.getY();
+		final float z = height - camera.getZ();
 
-	private static List<WorldPoint> interpolateLine(WorldPoint start, WorldPoint end)
+		if (distanceClip > 0)
 		{
-			List<WorldPoint> result = new ArrayList<>();
-			int steps = Math.max(start.distanceTo(end), 1);
-
-			for (int i = 0; i <= steps; i++)
+			// closest point of the box on the ground plane, with a unit of slack as the exact clip truncates the camera position
+			final float dx = Math.max(Math.max(minX, -maxX), 0);
+			final float dy = Math.max(Math.max(minY, -maxY), 0);
+			final float reach = distanceClip + 1;
+			if (dx * dx + dy * dy > reach * reach)
 			{
-				double t = i / (double) steps;
-				int x = (int) Math.round(lerp(start.getX(), end.getX(), t));
-				int y = (int) Math.round(lerp(start.getY(), end.getY(), t));
-				int plane = start.getPlane();
-				result.add(new WorldPoint(x, y, plane));
+				return false;
 			}
-
-			return result;
 		}
 
-	private static double lerp(int a, int b, double t)
-	{
-		return a + (b - a) * t;
+		// depth is linear in position, so the box reaches furthest in front of the camera at a corner
+		final float depth = Math.max(
+			Math.max(depth(camera, minX, minY, z), depth(camera, maxX, minY, z)),
+			Math.max(depth(camera, minX, maxY, z), depth(camera, maxX, maxY, z)));
+		return depth >= NEAR_PLANE;
 	}
 
-	private static void renderLineWorld(final Graphics2D graphics, Client client, final WorldPoint refWp, final LocalPoint refLp, final WorldPoint startWp, int startHeight, final WorldPoint endWp, int endHeight, final Color c, final float lineWidth, final float distanceClip)
+	// the camera space depth of a point already relative to the camera, as computed by localToCamera
+	private static float depth(CameraSnapshot camera, float x, float y, float z)
 	{
-		// Now convert the start and end into local points based on an offset
-		LocalPoint startLp = new LocalPoint(refLp.getX() + (startWp.getX() - refWp.getX()) * Perspective.LOCAL_TILE_SIZE, refLp.getY() + (startWp.getY() - refWp.getY()) * Perspective.LOCAL_TILE_SIZE, WorldView.TOPLEVEL);
-		LocalPoint endLp   = new LocalPoint(refLp.getX() + (  endWp.getX() - refWp.getX()) * Perspective.LOCAL_TILE_SIZE, refLp.getY() + (  endWp.getY() - refWp.getY()) * Perspective.LOCAL_TILE_SIZE, WorldView.TOPLEVEL);
-
-		renderLineLocal(graphics, client, startLp, startHeight, endLp, endHeight, c, lineWidth, distanceClip);
+		float y1 = y * camera.getYawCos() - x * camera.getYawSin();
+		return y1 * camera.getPitchCos() + z * camera.getPitchSin();
 	}
 
-private static void renderLineWorld(Graphics2D graphics, Client client, WorldPoint refWp, LocalPoint refLp, WorldPoint startWp, int startHeight, WorldPoint endWp, int endHeight, Color c, float lineWidth, float distanceClip, TracerConfig tracerConfig)
-{
-	List<WorldPoint> fullInterp = interpolateLine(startWp, endWp);
-	if (fullInterp.isEmpty())
+	/**
+	 * Projects a segment one tile step at a time, so the tracer can light up single steps.
+	 */
+	private static void projectTracerSegment(ProjectedLines out, CameraSnapshot camera, SegmentGroups groups, int group, LocalRoute journey, int segment, int height, float distanceClip)
 	{
-		return;
+		RouteTiles tiles = journey.getPath().getTiles();
+		int first = tiles.getSegmentStart(segment);
+		int totalSegments = tiles.getSteps(segment);
+
+		for (int i = 0; i < totalSegments; i++)
+		{
+			int tile = first + i;
+			projectLine(out, camera, groups, group, i, totalSegments,
+				journey.getTileX(tile), journey.getTileY(tile), height,
+				journey.getTileX(tile + 1), journey.getTileY(tile + 1), height,
+				distanceClip);
+		}
 	}
 
-	final int CHUNK_SIZE = 50;
-	int totalPoints = fullInterp.size();
-	int totalSegments = totalPoints - 1;
-	if (totalSegments <= 0)
+	/**
+	 * @return whether tile step {@code step} of a segment {@code steps} long is lit up at the pulse position,
+	 * one step in every {@link #TRACER_CHUNK_SIZE}
+	 */
+	static boolean isPulse(int step, int steps, int pulse)
 	{
-		return;
+		int chunkStart = step - step % TRACER_CHUNK_SIZE;
+		int segmentsInChunk = Math.min(TRACER_CHUNK_SIZE, steps - chunkStart);
+		// the pulse is scaled down over a shorter final chunk
+		return step - chunkStart == pulse * segmentsInChunk / TRACER_CHUNK_SIZE;
 	}
 
-	int pulse = tracerConfig.getFrameTick() % CHUNK_SIZE;
-
-	for (int i = 0; i < totalSegments; i++)
+	private static void projectLine(ProjectedLines out, CameraSnapshot camera, SegmentGroups groups, int group, int step, int steps, int x1, int y1, int z1, int x2, int y2, int z2, float distanceClip)
 	{
-		int chunkIndex = i / CHUNK_SIZE;
-		int segmentInChunk = i % CHUNK_SIZE;
-		int segmentsRemaining = totalSegments - chunkIndex * CHUNK_SIZE;
-		int segmentsInChunk = Math.min(CHUNK_SIZE, segmentsRemaining);
-
-		boolean isPulse;
-		if (segmentsInChunk == CHUNK_SIZE)
+		float[] cam = CAMERA_SCRATCH;
+		// consecutive lines mostly continue from where the last one ended, so each vertex is only transformed once
+		if (camera == cachedCamera && x1 == cachedX && y1 == cachedY && z1 == cachedZ)
 		{
-			isPulse = segmentInChunk == pulse;
+			System.arraycopy(CACHED_VERTEX, 0, cam, P1, 3);
 		}
 		else
 		{
-			int scaledPulse = (pulse * segmentsInChunk) / CHUNK_SIZE;
-			isPulse = segmentInChunk == scaledPulse;
+			localToCamera(camera, x1, y1, z1, cam, P1);
+		}
+		localToCamera(camera, x2, y2, z2, cam, P2);
+		System.arraycopy(cam, P2, CACHED_VERTEX, 0, 3);
+		cachedCamera = camera;
+		cachedX = x2;
+		cachedY = y2;
+		cachedZ = z2;
+
+		if (!clipAndProject(camera, x1, y1, x2, y2, distanceClip, cam, SCREEN_SCRATCH))
+		{
+			return;
 		}
 
-		WorldPoint wp1 = fullInterp.get(i);
-		WorldPoint wp2 = fullInterp.get(i + 1);
-
-		LocalPoint lp1 = new LocalPoint(
-				refLp.getX() + (wp1.getX() - refWp.getX()) * Perspective.LOCAL_TILE_SIZE,
-				refLp.getY() + (wp1.getY() - refWp.getY()) * Perspective.LOCAL_TILE_SIZE,
-				WorldView.TOPLEVEL
-		);
-
-		LocalPoint lp2 = new LocalPoint(
-				refLp.getX() + (wp2.getX() - refWp.getX()) * Perspective.LOCAL_TILE_SIZE,
-				refLp.getY() + (wp2.getY() - refWp.getY()) * Perspective.LOCAL_TILE_SIZE,
-				WorldView.TOPLEVEL
-		);
-
-		Color col = isPulse
-				? c
-				: dimColor(c, tracerConfig.getTracerIntensity());
-
-		renderLineLocal(graphics, client, lp1, startHeight, lp2, endHeight, col, lineWidth, distanceClip);
+		int members = groups.getMemberCount(group);
+		if (members == 1)
+		{
+			out.add(groups.getRoute(group), step, steps, SCREEN_SCRATCH);
+		}
+		else if (step != ProjectedLines.NO_STEP)
+		{
+			// tracer steps of a shared segment take turns between its routes
+			out.add(groups.getMemberRoute(group, step % members), step, steps, SCREEN_SCRATCH);
+		}
+		else
+		{
+			// a shared line is split into one stripe per route
+			int[] screen = SCREEN_SCRATCH;
+			int[] stripe = STRIPE_SCRATCH;
+			for (int member = 0; member < members; member++)
+			{
+				stripe[0] = screen[0] + (screen[2] - screen[0]) * member / members;
+				stripe[1] = screen[1] + (screen[3] - screen[1]) * member / members;
+				stripe[2] = screen[0] + (screen[2] - screen[0]) * (member + 1) / members;
+				stripe[3] = screen[1] + (screen[3] - screen[1]) * (member + 1) / members;
+				out.add(groups.getMemberRoute(group, member), step, steps, stripe);
+			}
+		}
 	}
-}
-
-
 
-
-private static void renderLineLocal(final Graphics2D graphics, Client client, final LocalPoint start, int startHeight, final LocalPoint end, int endHeight, final Color c, final float lineWidth, final float distanceClip)
+	public static Point cameraToCanvas(@Nonnull CameraSnapshot camera, float x, float y, float z)
 	{
-		Polygon poly = getLinePoly(client, start, startHeight, end, endHeight, distanceClip);
-
-		if (poly != null)
-		{
-			OverlayUtil.renderPolygon(graphics, poly, c, c, new BasicStroke(lineWidth));
-		}
+		int[] canvas = new int[2];
+		return cameraToCanvas(camera, x, y, z, canvas, 0) ? new Point(canvas[0], canvas[1]) : null;
 	}
 
-	public static Point cameraToCanvas(@Nonnull Client client, float x, float y, float z)
+	private static boolean cameraToCanvas(CameraSnapshot camera, float x, float y, float z, int[] out, int offset)
 	{
-		final float viewportXMiddle = client.getViewportWidth() / 2f;
-		final float viewportYMiddle = client.getViewportHeight() / 2f;
-		final float viewportXOffset = client.getViewportXOffset();
-		final float viewportYOffset = client.getViewportYOffset();
+		final float viewportXMiddle = camera.getViewportXMiddle();
+		final float viewportYMiddle = camera.getViewportYMiddle();
+		final float viewportXOffset = camera.getViewportXOffset();
+		final float viewportYOffset = camera.getViewportYOffset();
 
-		final float zoom3d = client.getScale();
+		final float zoom3d = camera.getZoom();
 
-		int viewX, viewY;
 		float sX, sY;
 
 		if (z < 0)
 		{
 			// Never happens since we clip to the near plane, but a failsafe just in case
-			return null;
+			return false;
 		}
 		else
 		{
@@ -311,25 +467,44 @@ private static void renderLineLocal(final Graphics2D graphics, Client client, fi
 			sY = (viewportYMiddle + (y * zoom3d) / z);
 		}
 
-		viewX = Math.round(sX + viewportXOffset);
-		viewY = Math.round(sY + viewportYOffset);
+		out[offset] = Math.round(sX + viewportXOffset);
+		out[offset + 1] = Math.round(sY + viewportYOffset);
+		return true;
+	}
 
-		return new Point(viewX, viewY);
+	/**
+	 * Projects a single local point, false when it is behind the near plane.
+	 *
+	 * @param cam scratch space for the camera space point
+	 */
+	static boolean localToCanvas(CameraSnapshot camera, float x, float y, float z, float[] cam, int[] out, int offset)
+	{
+		localToCamera(camera, x, y, z, cam, 0);
+		if (cam[2] < NEAR_PLANE)
+		{
+			return false;
+		}
+		return cameraToCanvas(camera, cam[0], cam[1], cam[2], out, offset);
 	}
 
-	public static float[] localToCamera(@Nonnull Client client, float x, float y, float z)
+	public static float[] localToCamera(@Nonnull CameraSnapshot camera, float x, float y, float z)
 	{
-		final double cameraPitch = client.getCameraFpPitch();
-		final double cameraYaw = client.getCameraFpYaw();
+		float[] cam = new float[3];
+		localToCamera(camera, x, y, z, cam, 0);
+		return cam;
+	}
 
-		final float pitchSin = (float) Math.sin(cameraPitch);
-		final float pitchCos = (float) Math.cos(cameraPitch);
-		final float yawSin = (float) Math.sin(cameraYaw);
-		final float yawCos = (float) Math.cos(cameraYaw);
+	private static void localToCamera(CameraSnapshot camera, float x, float y, float z, float[] out, int offset)
+	{
+		// the rotation is taken from the frame's snapshot rather than recomputed for every point
+		final float pitchSin = camera.getPitchSin();
+		final float pitchCos = camera.getPitchCos();
+		final float yawSin = camera.getYawSin();
+		final float yawCos = camera.getYawCos();
 
-		final float cx = (float) client.getCameraFpX();
-		final float cy = (float) client.getCameraFpY();
-		final float cz = (float) client.getCameraFpZ();
+		final float cx = camera.getX();
+		final float cy = camera.getY();
+		final float cz = camera.getZ();
 
 		x -= cx;
 		y -= cy;
@@ -340,41 +515,51 @@ private static void renderLineLocal(final Graphics2D graphics, Client client, fi
 		float y2 = z * pitchCos - y1 * pitchSin;
 		float z1 = y1 * pitchCos + z * pitchSin;
 
-		return new float[] { x1, y2, z1 };
+		out[offset] = x1;
+		out[offset + 1] = y2;
+		out[offset + 2] = z1;
 	}
 
-	private static void lerpPos(float[] srcDst, float[] target, float amount)
+	// moves the camera space point at src towards the one at target, both offsets into the same buffer
+	private static void lerpPos(float[] cam, int src, int target, float amount)
 	{
-		srcDst[0] = srcDst[0] + (target[0] - srcDst[0]) * amount;
-		srcDst[1] = srcDst[1] + (target[1] - srcDst[1]) * amount;
-		srcDst[2] = srcDst[2] + (target[2] - srcDst[2]) * amount;
+		cam[src] = cam[src] + (cam[target] - cam[src]) * amount;
+		cam[src + 1] = cam[src + 1] + (cam[target + 1] - cam[src + 1]) * amount;
+		cam[src + 2] = cam[src + 2] + (cam[target + 2] - cam[src + 2]) * amount;
 	}
 
-	private static Polygon getLinePoly(@Nonnull Client client, @Nonnull LocalPoint localLocation1, int z1, @Nonnull LocalPoint localLocation2, int z2, float distanceClip)
+	/**
+	 * Clips the line between two local points to the near plane and the draw distance, and projects what
+	 * is left onto the canvas.
+	 *
+	 * @param cam scratch space of {@link #CAMERA_SCRATCH}'s length
+	 * @param out receives the canvas x/y of both ends
+	 * @return false if nothing of the line is visible
+	 */
+	static boolean projectLine(@Nonnull CameraSnapshot camera, int x1, int y1, int z1, int x2, int y2, int z2, float distanceClip, float[] cam, int[] out)
 	{
-		final int x1 = localLocation1.getX();
-		final int y1 = localLocation1.getY();
-
-		final int x2 = localLocation2.getX();
-		final int y2 = localLocation2.getY();
-
 		// First turn it into cameraspace so we can clip to the near plane, before turning it into screenspace
-		float[] p1Cam = localToCamera(client, x1, y1, z1);
-		float[] p2Cam = localToCamera(client, x2, y2, z2);
+		localToCamera(camera, x1, y1, z1, cam, P1);
+		localToCamera(camera, x2, y2, z2, cam, P2);
+		return clipAndProject(camera, x1, y1, x2, y2, distanceClip, cam, out);
+	}
 
-		final float near = 50; // arbitrary near plane
+	// the rest of projectLine, for ends already transformed into P1 and P2 of cam
+	private static boolean clipAndProject(CameraSnapshot camera, int x1, int y1, int x2, int y2, float distanceClip, float[] cam, int[] out)
+	{
+		final float near = NEAR_PLANE;
 
-		if (p1Cam[2] < near && p2Cam[2] < near)
+		if (cam[P1 + 2] < near && cam[P2 + 2] < near)
 		{
 			// both points behind cam, skip this line entirely
-			return null;
+			return false;
 		}
 
 		if (distanceClip > 0)
 		{
 			// find points along the line that are x distance away
-			final float cx = (float)client.getCameraFpX();
-			final float cy = (float)client.getCameraFpY();
+			final float cx = camera.getX();
+			final float cy = camera.getY();
 
 			final double rayX = x2 - x1;
 			final double rayY = y2 - y1;
@@ -402,7 +587,7 @@ private static void renderLineLocal(final Graphics2D graphics, Client client, fi
 				// If discriminant <= 0, no intersections, discard the line
 				if (discriminantSquared <= 0)
 				{
-					return null;
+					return false;
 				}
 
 				final double discriminant = Math.sqrt(discriminantSquared);
@@ -414,52 +599,41 @@ private static void renderLineLocal(final Graphics2D graphics, Client client, fi
 				// intersection happens exactly on a tangent, or both are past either endpoint, discard this line
 				if (tIntersection1 == tIntersection2 || (tIntersection1 <= 0 && tIntersection2 <= 0) || (tIntersection1 >= 1 && tIntersection2 >= 1))
 				{
-					return null;
+					return false;
 				}
 
 				final float tIntersectionClosestToA = (float)Math.min(tIntersection1, tIntersection2);
 				final float tIntersectionClosestToB = (float)Math.max(tIntersection1, tIntersection2);
 
 				// keep p1 original just so when we lerp it we're not lerping to the lerped point
-				float[] p1CamOriginal = p1Cam.clone();
+				System.arraycopy(cam, P1, cam, P1_ORIGINAL, 3);
 
 				if (p1DistanceSquared > distanceClipSquared && tIntersectionClosestToA > 0 && tIntersectionClosestToA < 1)
 				{
-					lerpPos(p1Cam, p2Cam, tIntersectionClosestToA);
+					lerpPos(cam, P1, P2, tIntersectionClosestToA);
 				}
 
 				if (p2DistanceSquared > distanceClipSquared && tIntersectionClosestToB > 0 && tIntersectionClosestToB < 1)
 				{
-					lerpPos(p2Cam, p1CamOriginal, 1 - tIntersectionClosestToB);
+					lerpPos(cam, P2, P1_ORIGINAL, 1 - tIntersectionClosestToB);
 				}
 			}
 		}
 
 		// If point is behind the cam, lerp the point between itself and p1 proportionally until it hits the intersection
-		if (p1Cam[2] < near)
-		{
-			lerpPos(p1Cam, p2Cam, 1 - ((near - p2Cam[2]) / (p1Cam[2] - p2Cam[2])));
-			p1Cam[2] = near;
-		}
-
-		if (p2Cam[2] < near)
+		if (cam[P1 + 2] < near)
 		{
-			lerpPos(p2Cam, p1Cam, 1 - ((near - p1Cam[2]) / (p2Cam[2] - p1Cam[2])));
-			p2Cam[2] = near;
+			lerpPos(cam, P1, P2, 1 - ((near - cam[P2 + 2]) / (cam[P1 + 2] - cam[P2 + 2])));
+			cam[P1 + 2] = near;
 		}
 
-		Point p1 = cameraToCanvas(client, p1Cam[0], p1Cam[1], p1Cam[2]);
-		Point p2 = cameraToCanvas(client, p2Cam[0], p2Cam[1], p2Cam[2]);
-
-		if (p1 == null || p2 == null)
+		if (cam[P2 + 2] < near)
 		{
-			return null;
+			lerpPos(cam, P2, P1, 1 - ((near - cam[P1 + 2]) / (cam[P2 + 2] - cam[P1 + 2])));
+			cam[P2 + 2] = near;
 		}
 
-		Polygon poly = new Polygon();
-		poly.addPoint(p1.getX(), p1.getY());
-		poly.addPoint(p2.getX(), p2.getY());
-
-		return poly;
+		return cameraToCanvas(camera, cam[P1], cam[P1 + 1], cam[P1 + 2], out, 0)
+			&& cameraToCanvas(camera, cam[P2], cam[P2 + 1], cam[P2 + 2], out, 2);
 	}
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import net.runelite.api.Client;
+
+/**
+ * The routes drawn on the world map, kept in an offscreen image that is only redrawn when the map
+ * is panned, zoomed or resized, or the routes or their colors change.
+ */
+public final class WorldMapLayer
+{
+	private final WorldMapProjector projector = new WorldMapProjector();
+	private BufferedImage image;
+	// what the image was drawn for
+	private int positionX;
+	private int positionY;
+	private float zoom;
+	private Rectangle bounds;
+	private List<MapRoute> routes;
+
+	public void draw(Graphics2D graphics, Client client, List<MapRoute> routes)
+	{
+		if (!projector.update(client) || projector.getClip().isEmpty() || routes.isEmpty())
+		{
+			// the map is closed, let go of the image until it is opened again
+			clear();
+			return;
+		}
+
+		Rectangle mapViewArea = projector.getClip();
+		if (image == null
+			|| projector.getPositionX() != positionX || projector.getPositionY() != positionY
+			|| projector.getPixelsPerTile() != zoom
+			|| !mapViewArea.equals(bounds)
+			|| !routes.equals(this.routes))
+		{
+			redraw(graphics, mapViewArea, routes);
+			positionX = projector.getPositionX();
+			positionY = projector.getPositionY();
+			zoom = projector.getPixelsPerTile();
+			bounds = mapViewArea;
+			this.routes = routes;
+		}
+
+		graphics.drawImage(image, mapViewArea.x, mapViewArea.y, null);
+	}
+
+	public void clear()
+	{
+		image = null;
+		bounds = null;
+		routes = null;
+	}
+
+	private void redraw(Graphics2D graphics, Rectangle mapViewArea, List<MapRoute> routes)
+	{
+		if (image == null || image.getWidth() != mapViewArea.width || image.getHeight() != mapViewArea.height)
+		{
+			image = new BufferedImage(mapViewArea.width, mapViewArea.height, BufferedImage.TYPE_INT_ARGB);
+		}
+
+		Graphics2D g = image.createGraphics();
+		g.setComposite(AlphaComposite.Clear);
+		g.fillRect(0, 0, mapViewArea.width, mapViewArea.height);
+		g.setComposite(AlphaComposite.SrcOver);
+		g.setRenderingHints(graphics.getRenderingHints());
+		// the lines are projected to canvas coordinates, shift them so the map's corner lands on the image's
+		g.translate(-mapViewArea.x, -mapViewArea.y);
+		for (MapRoute route : routes)
+		{
+			WorldLines.createWorldMapLines(g, projector, route.getPath(), route.getFromSegment(), route.getColor());
+		}
+		g.dispose();
+	}
+}
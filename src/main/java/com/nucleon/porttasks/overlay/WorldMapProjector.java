@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import com.nucleon.porttasks.route.RoutePath;
+import java.awt.Rectangle;
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.Point;
+import net.runelite.api.gameval.InterfaceID;
+import net.runelite.api.widgets.Widget;
+import net.runelite.api.worldmap.WorldMap;
+import net.runelite.api.worldmap.WorldMapData;
+
+/**
+ * Maps world tiles onto the open world map, resolved once per frame so projecting a route needs
+ * no widget lookups. A tile lands at the center of its square on the map, counted out from the
+ * map's center position.
+ */
+public final class WorldMapProjector
+{
+	// marks a projected point that is not on the map's surface
+	public static final int OFF_MAP = Integer.MIN_VALUE;
+
+	@Getter
+	private Rectangle clip;
+	@Getter
+	private int positionX;
+	@Getter
+	private int positionY;
+	@Getter
+	private float pixelsPerTile;
+	private WorldMapData surface;
+	// canvas position of world tile (0, 0) before the zoom's rounding is applied
+	private int tileOffsetX;
+	private int tileOffsetY;
+	private double centerOffset;
+	// screen coordinates of the last projected route, reused between routes and frames
+	@Getter
+	private int[] xs = new int[64];
+	@Getter
+	private int[] ys = new int[64];
+
+	/**
+	 * Resolves the world map's widget bounds, zoom and position for this frame.
+	 *
+	 * @return false when the world map isn't open
+	 */
+	public boolean update(Client client)
+	{
+		Widget map = client.getWidget(InterfaceID.Worldmap.MAP_CONTAINER);
+		WorldMap worldMap = client.getWorldMap();
+		Point position = worldMap != null ? worldMap.getWorldMapPosition() : null;
+		if (map == null || position == null)
+		{
+			clip = null;
+			return false;
+		}
+
+		clip = map.getBounds();
+		positionX = position.getX();
+		positionY = position.getY();
+		pixelsPerTile = worldMap.getWorldMapZoom();
+		surface = worldMap.getWorldMapData();
+
+		int widthInTiles = (int) Math.ceil(clip.getWidth() / pixelsPerTile);
+		int heightInTiles = (int) Math.ceil(clip.getHeight() / pixelsPerTile);
+		tileOffsetX = widthInTiles / 2 - positionX;
+		tileOffsetY = 1 - (positionY - heightInTiles / 2);
+		centerOffset = pixelsPerTile - Math.ceil(pixelsPerTile / 2);
+		return true;
+	}
+
+	public int getX(int worldX)
+	{
+		int x = (int) ((worldX + tileOffsetX) * pixelsPerTile);
+		x = (int) (x + centerOffset);
+		return x + clip.x;
+	}
+
+	public int getY(int worldY)
+	{
+		int y = (int) ((worldY + tileOffsetY) * pixelsPerTile);
+		y = (int) (y - centerOffset);
+		return clip.height - y + clip.y;
+	}
+
+	/**
+	 * Projects the vertex at {@code fromSegment} followed by each of {@code vertices} past it into
+	 * {@link #getXs()} and {@link #getYs()}, with {@link #OFF_MAP} for points off the map's surface.
+	 *
+	 * @return the number of points projected
+	 */
+	public int project(RoutePath route, int fromSegment, int[] vertices)
+	{
+		if (xs.length < vertices.length + 1)
+		{
+			xs = new int[vertices.length + 1];
+			ys = new int[vertices.length + 1];
+		}
+
+		int count = 0;
+		count = project(route, fromSegment, count);
+		for (int vertex : vertices)
+		{
+			if (vertex > fromSegment)
+			{
+				count = project(route, vertex, count);
+			}
+		}
+		return count;
+	}
+
+	private int project(RoutePath route, int vertex, int count)
+	{
+		int worldX = route.getX(vertex);
+		int worldY = route.getY(vertex);
+		if (surface.surfaceContainsPosition(worldX, worldY))
+		{
+			xs[count] = getX(worldX);
+			ys[count] = getY(worldY);
+		}
+		else
+		{
+			xs[count] = OFF_MAP;
+			ys[count] = OFF_MAP;
+		}
+		return count + 1;
+	}
+}
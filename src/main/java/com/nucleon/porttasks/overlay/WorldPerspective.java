@@ -25,7 +25,10 @@
 package com.nucleon.porttasks.overlay;
 
 import net.runelite.api.Client;
+import net.runelite.api.Player;
 import net.runelite.api.Point;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.gameval.InterfaceID;
@@ -34,18 +37,51 @@ import net.runelite.api.widgets.Widget;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static net.runelite.api.Constants.CHUNK_SIZE;
 
 public class WorldPerspective
 {
-private final static int SW = 0;
-private final static int NW = 3;
-private final static int NE = 2;
-private final static int SE = 1;
+final static int SW = 0;
+final static int NW = 3;
+final static int NE = 2;
+final static int SE = 1;
+
+	// instance chunks by the template chunk they copy, built on first use after each scene load
+	private static Map<Integer, int[]> instanceChunks;
+	// zone outlines in local coordinates, built on first use after each scene load
+	private static final Map<Zone, ZoneOutline> zoneOutlines = new HashMap<>();
+
+	/**
+	 * @return the real world location of the boat the local player is aboard, or null when not on a boat
+	 */
+	public static WorldPoint getBoatWorldPoint(Client client)
+	{
+		Player player = client.getLocalPlayer();
+		if (player == null)
+		{
+			return null;
+		}
+
+		WorldView playerWorldView = player.getWorldView();
+		if (playerWorldView == null || playerWorldView.isTopLevel() || playerWorldView.getId() == WorldView.TOPLEVEL)
+		{
+			return null;
+		}
+
+		WorldEntity playerWorldEntity = client.getTopLevelWorldView().worldEntities().byIndex(playerWorldView.getId());
+		if (playerWorldEntity == null)
+		{
+			return null;
+		}
+		return WorldPoint.fromLocalInstance(client, playerWorldEntity.getLocalLocation());
+	}
 
 	public static Collection<WorldPoint> toLocalInstanceFromReal(Client client, WorldPoint worldPoint)
 	{
@@ -56,8 +92,61 @@ private final static int SE = 1;
 
 		if (worldPoint == null) return Collections.singleton(null);
 
-		List<WorldPoint> worldPoints = new ArrayList<>();
+		int[] chunks = getInstanceChunks(client).get(getTemplateChunkKey(worldPoint.getX() / CHUNK_SIZE, worldPoint.getY() / CHUNK_SIZE));
+		if (chunks == null)
+		{
+			return Collections.emptyList();
+		}
 
+		List<WorldPoint> worldPoints = new ArrayList<>(chunks.length);
+		for (int chunk : chunks)
+		{
+			int rotation = chunk & 0x3;
+			int x = chunk >> 2 & 0xFF;
+			int y = chunk >> 10 & 0xFF;
+			int z = chunk >> 18;
+			WorldPoint p =
+					new WorldPoint(client.getBaseX() + x * CHUNK_SIZE + (worldPoint.getX() & (CHUNK_SIZE - 1)),
+							client.getBaseY() + y * CHUNK_SIZE + (worldPoint.getY() & (CHUNK_SIZE - 1)),
+							z);
+			p = rotate(p, rotation);
+			if (p.isInScene(client))
+			{
+				worldPoints.add(p);
+			}
+		}
+		return worldPoints;
+	}
+
+	/**
+	 * Forgets which instance chunks copy which template chunks, called whenever the game state changes
+	 * as a scene load can rearrange them.
+	 */
+	public static void clearInstanceChunks()
+	{
+		instanceChunks = null;
+	}
+
+	/**
+	 * Forgets the zone outlines, called whenever the game state changes as a scene load moves local coordinates.
+	 */
+	public static void clearZoneOutlines()
+	{
+		zoneOutlines.clear();
+	}
+
+	/**
+	 * @return the instance chunks of the loaded scene by the template chunk they copy, each packed as
+	 * rotation, scene chunk x, scene chunk y and plane, in scene order
+	 */
+	private static Map<Integer, int[]> getInstanceChunks(Client client)
+	{
+		if (instanceChunks != null)
+		{
+			return instanceChunks;
+		}
+
+		Map<Integer, int[]> chunks = new HashMap<>();
 		int[][][] instanceTemplateChunks = client.getInstanceTemplateChunks();
 		for (int z = 0; z < instanceTemplateChunks.length; ++z)
 		{
@@ -66,26 +155,27 @@ private final static int SE = 1;
 				for (int y = 0; y < instanceTemplateChunks[z][x].length; ++y)
 				{
 					int chunkData = instanceTemplateChunks[z][x][y];
-					int rotation = chunkData >> 1 & 0x3;
-					int templateChunkY = (chunkData >> 3 & 0x7FF) * CHUNK_SIZE;
-					int templateChunkX = (chunkData >> 14 & 0x3FF) * CHUNK_SIZE;
-					if (worldPoint.getX() >= templateChunkX && worldPoint.getX() < templateChunkX + CHUNK_SIZE
-							&& worldPoint.getY() >= templateChunkY && worldPoint.getY() < templateChunkY + CHUNK_SIZE)
+					if (chunkData == -1)
 					{
-						WorldPoint p =
-								new WorldPoint(client.getBaseX() + x * CHUNK_SIZE + (worldPoint.getX() & (CHUNK_SIZE - 1)),
-										client.getBaseY() + y * CHUNK_SIZE + (worldPoint.getY() & (CHUNK_SIZE - 1)),
-										z);
-						p = rotate(p, rotation);
-						if (p.isInScene(client))
-						{
-							worldPoints.add(p);
-						}
+						continue;
 					}
+
+					int rotation = chunkData >> 1 & 0x3;
+					int key = getTemplateChunkKey(chunkData >> 14 & 0x3FF, chunkData >> 3 & 0x7FF);
+					int[] existing = chunks.get(key);
+					int[] updated = existing == null ? new int[1] : Arrays.copyOf(existing, existing.length + 1);
+					updated[updated.length - 1] = rotation | x << 2 | y << 10 | z << 18;
+					chunks.put(key, updated);
 				}
 			}
 		}
-		return worldPoints;
+		instanceChunks = chunks;
+		return chunks;
+	}
+
+	private static int getTemplateChunkKey(int chunkX, int chunkY)
+	{
+		return chunkX << 11 | chunkY;
 	}
 
 	private static WorldPoint rotate(WorldPoint point, int rotation)
@@ -174,57 +264,6 @@ private final static int SE = 1;
 		return WorldPoint.fromLocalInstance(client, lp);
 	}
 
-	public static Rectangle getWorldMapClipArea(Client client)
-	{
-		Widget widget = client.getWidget(InterfaceID.Worldmap.MAP_CONTAINER);
-		if (widget == null)
-		{
-			return null;
-		}
-
-		return widget.getBounds();
-	}
-
-	public static Point mapWorldPointToGraphicsPoint(Client client, WorldPoint worldPoint)
-	{
-		var worldMap = client.getWorldMap();
-		if (worldPoint == null) return null;
-		if (!worldMap.getWorldMapData().surfaceContainsPosition(worldPoint.getX(), worldPoint.getY()))
-		{
-			return null;
-		}
-
-		float pixelsPerTile = worldMap.getWorldMapZoom();
-
-		Widget map = client.getWidget(InterfaceID.Worldmap.MAP_CONTAINER);
-		if (map != null)
-		{
-			Rectangle worldMapRect = map.getBounds();
-
-			int widthInTiles = (int) Math.ceil(worldMapRect.getWidth() / pixelsPerTile);
-			int heightInTiles = (int) Math.ceil(worldMapRect.getHeight() / pixelsPerTile);
-
-			var worldMapPosition = worldMap.getWorldMapPosition();
-
-			int yTileMax = worldMapPosition.getY() - heightInTiles / 2;
-			int yTileOffset = (yTileMax - worldPoint.getY() - 1) * -1;
-			int xTileOffset = worldPoint.getX() + widthInTiles / 2 - worldMapPosition.getX();
-
-			int xGraphDiff = ((int) (xTileOffset * pixelsPerTile));
-			int yGraphDiff = (int) (yTileOffset * pixelsPerTile);
-
-			yGraphDiff -= pixelsPerTile - Math.ceil(pixelsPerTile / 2);
-			xGraphDiff += pixelsPerTile - Math.ceil(pixelsPerTile / 2);
-
-			yGraphDiff = worldMapRect.height - yGraphDiff;
-			yGraphDiff += (int) worldMapRect.getY();
-			xGraphDiff += (int) worldMapRect.getX();
-
-			return new Point(xGraphDiff, yGraphDiff);
-		}
-		return null;
-	}
-
 	public static List<Point> worldToCanvasWithOffset(Client client, WorldPoint worldPoint, int zOffset)
 	{
 		List<Point> canvasPoints = new ArrayList<>();
@@ -279,23 +318,7 @@ public static Point getMinimapPoint(Client client, WorldPoint start, WorldPoint
 		x /= maxDistance;
 		y /= maxDistance;
 
-		Widget minimapDrawWidget;
-		if (client.isResized())
-		{
-			if (client.getVarbitValue(VarbitID.RESIZABLE_STONE_ARRANGEMENT) == 1)
-			{
-				minimapDrawWidget = client.getWidget(InterfaceID.ToplevelPreEoc.MINIMAP);
-			}
-			else
-			{
-				minimapDrawWidget = client.getWidget(InterfaceID.ToplevelOsrsStretch.MINIMAP);
-			}
-		}
-		else
-		{
-			minimapDrawWidget = client.getWidget(InterfaceID.Toplevel.MINIMAP);
-		}
-
+		Widget minimapDrawWidget = getMinimapDrawWidget(client);
 		if (minimapDrawWidget == null)
 		{
 			return null;
@@ -315,53 +338,37 @@ public static Point getMinimapPoint(Client client, WorldPoint start, WorldPoint
 		return new Point(miniMapX, miniMapY);
 	}
 
-	public static Polygon getZonePoly(Client client, Zone zone)
+	/**
+	 * @return the widget the minimap is drawn in for the current interface layout
+	 */
+	public static Widget getMinimapDrawWidget(Client client)
 	{
-		Polygon areaPoly = new Polygon();
-		if (zone == null) return areaPoly;
-
-		for (int x = zone.getMinX(); x < zone.getMaxX(); x++)
-		{
-			addToPoly(client, areaPoly, new WorldPoint(x, zone.getMaxY(), zone.getMinWorldPoint().getPlane()), NW);
-		}
-
-		addToPoly(client, areaPoly, new WorldPoint(zone.getMaxX(), zone.getMaxY(), zone.getMinWorldPoint().getPlane()), NW, NE, SE);
-
-		for (int y = zone.getMaxY() - 1; y > zone.getMinY(); y--)
-		{
-			addToPoly(client, areaPoly, new WorldPoint(zone.getMaxX(), y, zone.getMinWorldPoint().getPlane()), SE);
-		}
-
-		addToPoly(client, areaPoly, new WorldPoint(zone.getMaxX(), zone.getMinY(), zone.getMinWorldPoint().getPlane()), SE, SW);
-
-		for (int x = zone.getMaxX() - 1; x > zone.getMinX(); x--)
-		{
-			addToPoly(client, areaPoly, new WorldPoint(x, zone.getMinY(), zone.getMinWorldPoint().getPlane()), SW);
-		}
-
-		addToPoly(client, areaPoly, new WorldPoint(zone.getMinX(), zone.getMinY(), zone.getMinWorldPoint().getPlane()), SW, NW);
-
-		for (int y = zone.getMinY() + 1; y < zone.getMaxY(); y++)
+		if (client.isResized())
 		{
-			addToPoly(client, areaPoly, new WorldPoint(zone.getMinX(), y, zone.getMinWorldPoint().getPlane()), NW);
+			if (client.getVarbitValue(VarbitID.RESIZABLE_STONE_ARRANGEMENT) == 1)
+			{
+				return client.getWidget(InterfaceID.ToplevelPreEoc.MINIMAP);
+			}
+			return client.getWidget(InterfaceID.ToplevelOsrsStretch.MINIMAP);
 		}
+		return client.getWidget(InterfaceID.Toplevel.MINIMAP);
+	}
 
-
-		return areaPoly;
+	public static Polygon getZonePoly(Client client, Zone zone)
+	{
+		return getZonePoly(client, CameraSnapshot.capture(client), zone);
 	}
 
-	private static void addToPoly(Client client, Polygon areaPoly, WorldPoint wp, int... points)
+	/**
+	 * @return a copy of the zone's outline on the canvas, which is only projected again when the camera moves
+	 */
+	public static Polygon getZonePoly(Client client, CameraSnapshot camera, Zone zone)
 	{
-		LocalPoint localPoint = LocalPoint.fromWorld(client.getTopLevelWorldView(), wp);
-		if (localPoint == null) return;
+		if (zone == null) return new Polygon();
 
-		Polygon poly = net.runelite.api.Perspective.getCanvasTilePoly(client, localPoint);
-		if (poly != null)
-		{
-			for (int point : points)
-			{
-				areaPoly.addPoint(poly.xpoints[point], poly.ypoints[point]);
-			}
-		}
+		// the outline's local coordinates and ground heights only change with the scene
+		ZoneOutline outline = zoneOutlines.computeIfAbsent(zone, z -> new ZoneOutline(client, z));
+		Polygon projected = outline.project(camera);
+		return new Polygon(projected.xpoints, projected.ypoints, projected.npoints);
 	}
-}
\ No newline at end of file
+}
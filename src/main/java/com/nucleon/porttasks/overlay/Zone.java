@@ -25,11 +25,14 @@
  */
 package com.nucleon.porttasks.overlay;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import net.runelite.api.coords.WorldPoint;
 
 import static net.runelite.api.Constants.REGION_SIZE;
 
+// equal zones share a cached outline in WorldPerspective
+@EqualsAndHashCode
 public class Zone
 {
 	@Getter
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import java.awt.Polygon;
+import java.util.Arrays;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * The outline of a {@link Zone} in local coordinates, with the height of the ground at every corner
+ * along its edge. Built once per scene and only projected again when the camera moves.
+ */
+public final class ZoneOutline
+{
+	private static final int HALF_TILE = Perspective.LOCAL_HALF_TILE_SIZE;
+	// offsets of each tile corner from the tile's center, indexed by the WorldPerspective corner constants
+	private static final int[] CORNER_X = {-HALF_TILE, HALF_TILE, HALF_TILE, -HALF_TILE};
+	private static final int[] CORNER_Y = {-HALF_TILE, -HALF_TILE, HALF_TILE, HALF_TILE};
+
+	// local x, y and ground height of each outline point in drawing order
+	private int[] xs = new int[16];
+	private int[] ys = new int[16];
+	private int[] heights = new int[16];
+	private int size;
+
+	private final Polygon polygon = new Polygon();
+	private final float[] cam = new float[3];
+	private final int[] canvas = new int[2];
+	private CameraSnapshot projectedCamera;
+
+	ZoneOutline(Client client, Zone zone)
+	{
+		int plane = zone.getMinWorldPoint().getPlane();
+		for (int x = zone.getMinX(); x < zone.getMaxX(); x++)
+		{
+			addTile(client, x, zone.getMaxY(), plane, WorldPerspective.NW);
+		}
+
+		addTile(client, zone.getMaxX(), zone.getMaxY(), plane, WorldPerspective.NW, WorldPerspective.NE, WorldPerspective.SE);
+
+		for (int y = zone.getMaxY() - 1; y > zone.getMinY(); y--)
+		{
+			addTile(client, zone.getMaxX(), y, plane, WorldPerspective.SE);
+		}
+
+		addTile(client, zone.getMaxX(), zone.getMinY(), plane, WorldPerspective.SE, WorldPerspective.SW);
+
+		for (int x = zone.getMaxX() - 1; x > zone.getMinX(); x--)
+		{
+			addTile(client, x, zone.getMinY(), plane, WorldPerspective.SW);
+		}
+
+		addTile(client, zone.getMinX(), zone.getMinY(), plane, WorldPerspective.SW, WorldPerspective.NW);
+
+		for (int y = zone.getMinY() + 1; y < zone.getMaxY(); y++)
+		{
+			addTile(client, zone.getMinX(), y, plane, WorldPerspective.NW);
+		}
+	}
+
+	/**
+	 * @return the outline on the canvas for {@code camera}, reused until the camera moves, so it must not be modified
+	 */
+	public Polygon project(CameraSnapshot camera)
+	{
+		if (camera.equals(projectedCamera))
+		{
+			return polygon;
+		}
+
+		polygon.reset();
+		for (int i = 0; i < size; i++)
+		{
+			// corners behind the camera are left out rather than dropping the whole outline
+			if (WorldLines.localToCanvas(camera, xs[i], ys[i], heights[i], cam, canvas, 0))
+			{
+				polygon.addPoint(canvas[0], canvas[1]);
+			}
+		}
+		projectedCamera = camera;
+		return polygon;
+	}
+
+	// looked up once per scene, so the WorldPoint per edge tile is not a concern
+	private void addTile(Client client, int worldX, int worldY, int plane, int... corners)
+	{
+		WorldView worldView = client.getTopLevelWorldView();
+		LocalPoint tile = LocalPoint.fromWorld(worldView, new WorldPoint(worldX, worldY, plane));
+		if (tile == null)
+		{
+			return;
+		}
+
+		for (int corner : corners)
+		{
+			int x = tile.getX() + CORNER_X[corner];
+			int y = tile.getY() + CORNER_Y[corner];
+			if (size == xs.length)
+			{
+				xs = Arrays.copyOf(xs, size * 2);
+				ys = Arrays.copyOf(ys, size * 2);
+				heights = Arrays.copyOf(heights, size * 2);
+			}
+			xs[size] = x;
+			ys[size] = y;
+			// the zone's own plane rather than the current one, which can change without a scene load
+			heights[size] = Perspective.getTileHeight(client, new LocalPoint(x, y, worldView), plane);
+			size++;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import java.util.Arrays;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Runs of consecutive route segments with their tile bounding boxes, so whole stretches of a route
+ * can be rejected before any per-segment work. Chunk {@code c} holds the segments from
+ * {@link #getFirstSegment(int) getFirstSegment(c)} up to, not including, {@code getFirstSegment(c + 1)}.
+ */
+public final class RouteChunks
+{
+	public static final int SEGMENTS_PER_CHUNK = 8;
+
+	private final int segments;
+	private final int plane;
+	// four ints (minX, minY, maxX, maxY) per chunk, covering both ends of every segment in it
+	private final int[] bounds;
+	// region index over the bounds, built on first use
+	private RouteGrid grid;
+
+	RouteChunks(RoutePath route)
+	{
+		segments = Math.max(route.size() - 1, 0);
+		plane = route.getPlane();
+		int chunks = (segments + SEGMENTS_PER_CHUNK - 1) / SEGMENTS_PER_CHUNK;
+		bounds = new int[chunks * 4];
+
+		for (int chunk = 0; chunk < chunks; chunk++)
+		{
+			int minX = Integer.MAX_VALUE;
+			int minY = Integer.MAX_VALUE;
+			int maxX = Integer.MIN_VALUE;
+			int maxY = Integer.MIN_VALUE;
+			int last = Math.min(getFirstSegment(chunk + 1), segments);
+			for (int i = getFirstSegment(chunk); i <= last; i++)
+			{
+				minX = Math.min(minX, route.getX(i));
+				minY = Math.min(minY, route.getY(i));
+				maxX = Math.max(maxX, route.getX(i));
+				maxY = Math.max(maxY, route.getY(i));
+			}
+			bounds[chunk * 4] = minX;
+			bounds[chunk * 4 + 1] = minY;
+			bounds[chunk * 4 + 2] = maxX;
+			bounds[chunk * 4 + 3] = maxY;
+		}
+	}
+
+	public int size()
+	{
+		return bounds.length / 4;
+	}
+
+	public int getChunk(int segment)
+	{
+		return segment / SEGMENTS_PER_CHUNK;
+	}
+
+	public int getFirstSegment(int chunk)
+	{
+		return Math.min(chunk * SEGMENTS_PER_CHUNK, segments);
+	}
+
+	public int getMinX(int chunk)
+	{
+		return bounds[chunk * 4];
+	}
+
+	public int getMinY(int chunk)
+	{
+		return bounds[chunk * 4 + 1];
+	}
+
+	public int getMaxX(int chunk)
+	{
+		return bounds[chunk * 4 + 2];
+	}
+
+	public int getMaxY(int chunk)
+	{
+		return bounds[chunk * 4 + 3];
+	}
+
+	/**
+	 * Writes the ascending indices of the chunks whose map regions are within {@code radius} tiles of
+	 * {@code point} to {@code out}, which must hold at least {@link #size()} ints. This is a superset of
+	 * the chunks {@link #distanceTo} places within {@code radius}, found without visiting the others.
+	 *
+	 * @return the number of chunks written
+	 */
+	public int findChunksNear(WorldPoint point, int radius, int[] out)
+	{
+		if (point.getPlane() != plane)
+		{
+			return 0;
+		}
+		if (grid == null)
+		{
+			grid = new RouteGrid(this);
+		}
+		int count = grid.collectCandidates(point.getX(), point.getY(), radius, out);
+		Arrays.sort(out, 0, count);
+		return count;
+	}
+
+	/**
+	 * Chebyshev tile distance from {@code point} to the closest tile of the chunk's bounding box,
+	 * never more than {@link RoutePath#distanceTo(int, WorldPoint)} for any vertex in the chunk.
+	 */
+	public int distanceTo(int chunk, WorldPoint point)
+	{
+		if (point.getPlane() != plane)
+		{
+			return Integer.MAX_VALUE;
+		}
+		int dx = Math.max(Math.max(getMinX(chunk) - point.getX(), point.getX() - getMaxX(chunk)), 0);
+		int dy = Math.max(Math.max(getMinY(chunk) - point.getY(), point.getY() - getMaxY(chunk)), 0);
+		return Math.max(dx, dy);
+	}
+}
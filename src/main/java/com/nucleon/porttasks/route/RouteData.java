@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import com.nucleon.porttasks.enums.PortPaths;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * The relative moves of every {@link PortPaths} route, read from {@code port_paths.bin} the first
+ * time a route is needed.
+ * <p>
+ * Layout, big-endian:
+ * <pre>
+ * int    magic, "PTRS"
+ * short  version
+ * short  route count
+ * per route:
+ *   short  name length, followed by the name in UTF-8 (a PortPaths constant)
+ *   short  move count, followed by a (short dx, short dy) pair per move
+ * </pre>
+ * The resource is compiled from {@code src/main/routes/port_paths.txt}. A missing, corrupt or
+ * incomplete resource is a packaging error, so it fails class initialization rather than leaving
+ * every route empty.
+ */
+@Slf4j
+public final class RouteData
+{
+	public static final String RESOURCE = "/com/nucleon/porttasks/port_paths.bin";
+	public static final int MAGIC = 0x50545253;
+	public static final int VERSION = 1;
+
+	private static final int[][] LEGS;
+	private static final double[] DISTANCES;
+
+	static
+	{
+		PortPaths[] paths = PortPaths.values();
+
+		try (InputStream in = RouteData.class.getResourceAsStream(RESOURCE))
+		{
+			if (in == null)
+			{
+				throw new IOException("missing resource " + RESOURCE);
+			}
+			LEGS = decode(ByteBuffer.wrap(in.readAllBytes()));
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException("Unable to load the port route network", e);
+		}
+
+		DISTANCES = new double[paths.length];
+		for (PortPaths path : paths)
+		{
+			if (LEGS[path.ordinal()] == null)
+			{
+				throw new IllegalStateException("No route data for " + path.name() + " in " + RESOURCE);
+			}
+			DISTANCES[path.ordinal()] = computeDistance(path, LEGS[path.ordinal()]);
+		}
+	}
+
+	private RouteData()
+	{
+	}
+
+	/**
+	 * @return a copy of the moves of {@code path}
+	 */
+	public static int[] getLegs(PortPaths path)
+	{
+		return LEGS[path.ordinal()].clone();
+	}
+
+	/**
+	 * @return the moves of {@code path}, shared between callers and never to be modified
+	 */
+	static int[] getSharedLegs(PortPaths path)
+	{
+		return LEGS[path.ordinal()];
+	}
+
+	public static double getDistance(PortPaths path)
+	{
+		return DISTANCES[path.ordinal()];
+	}
+
+	/**
+	 * @return the moves of each route indexed by {@link PortPaths#ordinal()}, null for routes missing from {@code buffer}
+	 */
+	static int[][] decode(ByteBuffer buffer) throws IOException
+	{
+		int[][] decoded = new int[PortPaths.values().length][];
+		try
+		{
+			if (buffer.getInt() != MAGIC)
+			{
+				throw new IOException("not a route data file");
+			}
+			int version = buffer.getShort();
+			if (version != VERSION)
+			{
+				throw new IOException("unsupported route data version " + version);
+			}
+
+			int routes = buffer.getShort() & 0xFFFF;
+			for (int r = 0; r < routes; r++)
+			{
+				byte[] name = new byte[buffer.getShort() & 0xFFFF];
+				buffer.get(name);
+
+				int[] legs = new int[(buffer.getShort() & 0xFFFF) * 2];
+				for (int i = 0; i < legs.length; i++)
+				{
+					legs[i] = buffer.getShort();
+				}
+
+				PortPaths path = find(new String(name, StandardCharsets.UTF_8));
+				if (path == null)
+				{
+					log.debug("Skipping route data for unknown route {}", new String(name, StandardCharsets.UTF_8));
+					continue;
+				}
+				decoded[path.ordinal()] = legs;
+			}
+		}
+		catch (BufferUnderflowException e)
+		{
+			throw new IOException("truncated route data", e);
+		}
+		return decoded;
+	}
+
+	private static PortPaths find(String name)
+	{
+		try
+		{
+			return PortPaths.valueOf(name);
+		}
+		catch (IllegalArgumentException e)
+		{
+			return null;
+		}
+	}
+
+	static double computeDistance(PortPaths path, int[] legs)
+	{
+		double total = 0;
+
+		WorldPoint endPoint = path.getEnd().getNavigationLocation();
+		int x = path.getStart().getNavigationLocation().getX();
+		int y = path.getStart().getNavigationLocation().getY();
+		for (int i = 0; i < legs.length; i += 2)
+		{
+			total += Math.hypot(legs[i], legs[i + 1]);
+			x += legs[i];
+			y += legs[i + 1];
+		}
+		if (x != endPoint.getX() || y != endPoint.getY())
+		{
+			total += Math.hypot(endPoint.getX() - x, endPoint.getY() - y);
+		}
+		return total;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+/**
+ * Uniform grid over the chunks of a route, bucketed by 64x64 map region. Each chunk is listed
+ * in every region its bounding box overlaps, so a query only visits the chunks near the queried
+ * tile instead of walking the whole route.
+ */
+final class RouteGrid
+{
+	private static final int REGION_SHIFT = 6;
+
+	private final RouteChunks chunks;
+	private final int minRegionX;
+	private final int minRegionY;
+	private final int width;
+	private final int height;
+	// cellStart[c]..cellStart[c + 1] is the range of cellChunks belonging to cell c
+	private final int[] cellStart;
+	// chunk indices, ascending within each cell
+	private final int[] cellChunks;
+
+	RouteGrid(RouteChunks chunks)
+	{
+		this.chunks = chunks;
+		int size = chunks.size();
+
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxY = Integer.MIN_VALUE;
+		for (int chunk = 0; chunk < size; chunk++)
+		{
+			minX = Math.min(minX, chunks.getMinX(chunk) >> REGION_SHIFT);
+			minY = Math.min(minY, chunks.getMinY(chunk) >> REGION_SHIFT);
+			maxX = Math.max(maxX, chunks.getMaxX(chunk) >> REGION_SHIFT);
+			maxY = Math.max(maxY, chunks.getMaxY(chunk) >> REGION_SHIFT);
+		}
+
+		if (size == 0)
+		{
+			minX = minY = 0;
+			maxX = maxY = -1;
+		}
+
+		minRegionX = minX;
+		minRegionY = minY;
+		width = maxX - minX + 1;
+		height = maxY - minY + 1;
+
+		// counting sort of the chunks into every cell they overlap
+		cellStart = new int[width * height + 1];
+		for (int chunk = 0; chunk < size; chunk++)
+		{
+			for (int regionY = chunks.getMinY(chunk) >> REGION_SHIFT; regionY <= chunks.getMaxY(chunk) >> REGION_SHIFT; regionY++)
+			{
+				for (int regionX = chunks.getMinX(chunk) >> REGION_SHIFT; regionX <= chunks.getMaxX(chunk) >> REGION_SHIFT; regionX++)
+				{
+					cellStart[cell(regionX, regionY) + 1]++;
+				}
+			}
+		}
+		for (int c = 0; c < width * height; c++)
+		{
+			cellStart[c + 1] += cellStart[c];
+		}
+
+		cellChunks = new int[cellStart[width * height]];
+		int[] fill = cellStart.clone();
+		for (int chunk = 0; chunk < size; chunk++)
+		{
+			for (int regionY = chunks.getMinY(chunk) >> REGION_SHIFT; regionY <= chunks.getMaxY(chunk) >> REGION_SHIFT; regionY++)
+			{
+				for (int regionX = chunks.getMinX(chunk) >> REGION_SHIFT; regionX <= chunks.getMaxX(chunk) >> REGION_SHIFT; regionX++)
+				{
+					cellChunks[fill[cell(regionX, regionY)]++] = chunk;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the index of every chunk overlapping the regions of the square of {@code radius} tiles
+	 * around ({@code x}, {@code y}) to {@code out}, each once but in no particular order. Callers
+	 * still need an exact distance test.
+	 *
+	 * @return the number of chunks written
+	 */
+	int collectCandidates(int x, int y, int radius, int[] out)
+	{
+		int fromX = Math.max((x - radius) >> REGION_SHIFT, minRegionX);
+		int fromY = Math.max((y - radius) >> REGION_SHIFT, minRegionY);
+		int toX = Math.min((x + radius) >> REGION_SHIFT, minRegionX + width - 1);
+		int toY = Math.min((y + radius) >> REGION_SHIFT, minRegionY + height - 1);
+
+		int count = 0;
+		for (int regionY = fromY; regionY <= toY; regionY++)
+		{
+			for (int regionX = fromX; regionX <= toX; regionX++)
+			{
+				int c = cell(regionX, regionY);
+				for (int k = cellStart[c]; k < cellStart[c + 1]; k++)
+				{
+					int chunk = cellChunks[k];
+					// a chunk spanning several regions is only taken from the first of them inside the query
+					if (regionX == Math.max(fromX, chunks.getMinX(chunk) >> REGION_SHIFT)
+						&& regionY == Math.max(fromY, chunks.getMinY(chunk) >> REGION_SHIFT))
+					{
+						out[count++] = chunk;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	private int cell(int regionX, int regionY)
+	{
+		return (regionY - minRegionY) * width + (regionX - minRegionX);
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import com.nucleon.porttasks.enums.PortPaths;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * The tessellated geometry of every {@link PortPaths} route, packed into a single
+ * shared x/y buffer. Built once on first use.
+ */
+public final class RouteNetwork
+{
+	// maximum length in tiles of a tessellated sub-segment, keeps lines within the scene draw distance
+	public static final int SEGMENT_LENGTH = 50;
+
+	private static final RoutePath[] ROUTES;
+
+	static
+	{
+		PortPaths[] paths = PortPaths.values();
+
+		int capacity = 0;
+		for (PortPaths path : paths)
+		{
+			capacity += countVertices(RouteData.getSharedLegs(path));
+		}
+
+		int[] vertices = new int[capacity * 2];
+		ROUTES = new RoutePath[paths.length];
+
+		int vertex = 0;
+		for (PortPaths path : paths)
+		{
+			int first = vertex;
+			vertex = tessellate(path, vertices, vertex);
+			ROUTES[path.ordinal()] = RoutePath.pair(vertices, first, vertex - first, path.getStart().getNavigationLocation().getPlane());
+		}
+	}
+
+	private RouteNetwork()
+	{
+	}
+
+	public static RoutePath getRoute(PortPaths path, boolean reversed)
+	{
+		RoutePath route = ROUTES[path.ordinal()];
+		return reversed ? route.reverse() : route;
+	}
+
+	/**
+	 * Splits a leg into sub-moves of at most {@code segmentLength} tiles on either axis, spreading the
+	 * remainder over the first steps so the sub-moves always sum to the original leg.
+	 *
+	 * @return the number of sub-moves
+	 */
+	public static int splitMove(int dx, int dy, int segmentLength, int[] out, int outOffset)
+	{
+		int steps = countSteps(dx, dy, segmentLength);
+		if (steps <= 1)
+		{
+			out[outOffset] = dx;
+			out[outOffset + 1] = dy;
+			return 1;
+		}
+
+		int baseDx = dx / steps;
+		int baseDy = dy / steps;
+
+		int remDx = Math.abs(dx) - Math.abs(baseDx) * steps;
+		int remDy = Math.abs(dy) - Math.abs(baseDy) * steps;
+
+		int signDx = Integer.signum(dx);
+		int signDy = Integer.signum(dy);
+
+		for (int i = 0; i < steps; i++)
+		{
+			out[outOffset + i * 2] = baseDx + (i < remDx ? signDx : 0);
+			out[outOffset + i * 2 + 1] = baseDy + (i < remDy ? signDy : 0);
+		}
+		return steps;
+	}
+
+	private static int countSteps(int dx, int dy, int segmentLength)
+	{
+		return Math.max(
+			Math.abs(dx) / segmentLength + (Math.abs(dx) % segmentLength != 0 ? 1 : 0),
+			Math.abs(dy) / segmentLength + (Math.abs(dy) % segmentLength != 0 ? 1 : 0)
+		);
+	}
+
+	private static int countVertices(int[] legs)
+	{
+		// start and end locations, plus one vertex per sub-move
+		int count = 2;
+		for (int i = 0; i < legs.length; i += 2)
+		{
+			count += Math.max(1, countSteps(legs[i], legs[i + 1], SEGMENT_LENGTH));
+		}
+		return count;
+	}
+
+	private static int tessellate(PortPaths path, int[] vertices, int vertex)
+	{
+		WorldPoint start = path.getStart().getNavigationLocation();
+		WorldPoint end = path.getEnd().getNavigationLocation();
+		int[] legs = RouteData.getSharedLegs(path);
+
+		int x = start.getX();
+		int y = start.getY();
+		vertices[vertex * 2] = x;
+		vertices[vertex * 2 + 1] = y;
+		vertex++;
+
+		for (int i = 0; i < legs.length; i += 2)
+		{
+			int first = vertex;
+			int steps = splitMove(legs[i], legs[i + 1], SEGMENT_LENGTH, vertices, vertex * 2);
+			// turn the sub-moves written in place into absolute positions
+			for (int s = 0; s < steps; s++)
+			{
+				int slot = (first + s) * 2;
+				x += vertices[slot];
+				y += vertices[slot + 1];
+				vertices[slot] = x;
+				vertices[slot + 1] = y;
+			}
+			vertex += steps;
+		}
+
+		vertices[vertex * 2] = end.getX();
+		vertices[vertex * 2 + 1] = end.getY();
+		return vertex + 1;
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Read-only view of a tessellated route stored in a packed x/y buffer.
+ * Vertices are addressed by index in travel order, so a reversed view walks
+ * the same buffer backwards without copying it.
+ */
+public final class RoutePath
+{
+	// tile tolerances of the precomputed simplification levels, finest first
+	private static final double[] DETAIL_TOLERANCES = {0, 1, 2, 4, 8, 16, 32};
+
+	// two ints (x, y) per vertex, possibly shared with other routes
+	private final int[] vertices;
+	// index of this route's first vertex within the buffer
+	private final int offset;
+	private final int size;
+	@Getter
+	private final int plane;
+	@Getter
+	private final boolean reversed;
+	@Getter
+	private final double distance;
+	private RoutePath reverse;
+	// bounding boxes of runs of segments, built on first use
+	private RouteChunks chunks;
+	// vertex indices kept at each of DETAIL_TOLERANCES, built on first use
+	private int[][] detailLevels;
+	// tile by tile interpolation for the tracer, built on first use
+	private RouteTiles tiles;
+
+	RoutePath(int[] vertices, int offset, int size, int plane, boolean reversed)
+	{
+		this.vertices = vertices;
+		this.offset = offset;
+		this.size = size;
+		this.plane = plane;
+		this.reversed = reversed;
+		this.distance = computeDistance();
+	}
+
+	static RoutePath pair(int[] vertices, int offset, int size, int plane)
+	{
+		RoutePath forward = new RoutePath(vertices, offset, size, plane, false);
+		RoutePath backward = new RoutePath(vertices, offset, size, plane, true);
+		forward.reverse = backward;
+		backward.reverse = forward;
+		return forward;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public int getX(int index)
+	{
+		return vertices[slot(index)];
+	}
+
+	public int getY(int index)
+	{
+		return vertices[slot(index) + 1];
+	}
+
+	/**
+	 * @return the same route walked in the opposite direction
+	 */
+	public RoutePath reverse()
+	{
+		return reverse;
+	}
+
+	/**
+	 * Chebyshev tile distance from the vertex at {@code index} to {@code point},
+	 * matching {@link WorldPoint#distanceTo(WorldPoint)}.
+	 */
+	public int distanceTo(int index, WorldPoint point)
+	{
+		if (point.getPlane() != plane)
+		{
+			return Integer.MAX_VALUE;
+		}
+		return Math.max(Math.abs(getX(index) - point.getX()), Math.abs(getY(index) - point.getY()));
+	}
+
+	/**
+	 * Returns the ascending indices of the vertices to draw when an error of up to {@code tolerance}
+	 * tiles is acceptable, using the coarsest precomputed level that stays within it.
+	 * The first and last vertex are always included.
+	 */
+	public int[] getSimplifiedIndices(double tolerance)
+	{
+		if (detailLevels == null)
+		{
+			int[][] levels = new int[DETAIL_TOLERANCES.length][];
+			for (int level = 0; level < levels.length; level++)
+			{
+				levels[level] = RouteSimplifier.simplify(this, DETAIL_TOLERANCES[level]);
+			}
+			detailLevels = levels;
+		}
+
+		int level = 0;
+		while (level + 1 < DETAIL_TOLERANCES.length && DETAIL_TOLERANCES[level + 1] <= tolerance)
+		{
+			level++;
+		}
+		return detailLevels[level];
+	}
+
+	/**
+	 * @return the route's segments grouped into bounded chunks for culling
+	 */
+	public RouteChunks getChunks()
+	{
+		if (chunks == null)
+		{
+			chunks = new RouteChunks(this);
+		}
+		return chunks;
+	}
+
+	/**
+	 * @return every tile the route steps through, interpolated once per view
+	 */
+	public RouteTiles getTiles()
+	{
+		if (tiles == null)
+		{
+			tiles = new RouteTiles(this);
+		}
+		return tiles;
+	}
+
+	public WorldPoint toWorldPoint(int index)
+	{
+		return new WorldPoint(getX(index), getY(index), plane);
+	}
+
+	private int slot(int index)
+	{
+		return (offset + (reversed ? size - 1 - index : index)) << 1;
+	}
+
+	private double computeDistance()
+	{
+		double total = 0;
+		for (int i = 0; i < size - 1; i++)
+		{
+			total += Math.hypot(getX(i + 1) - getX(i), getY(i + 1) - getY(i));
+		}
+		return total;
+	}
+}
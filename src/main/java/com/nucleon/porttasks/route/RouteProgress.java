@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Tracks how far along a route the boat has sailed. The boat is projected onto the
+ * route once per tick, searching only a few segments past the current one, so the
+ * cursor never moves backwards and each update costs a constant amount of work.
+ * The boat has to pick the route up near its start, and once it has been off the
+ * route for a while the progress is reset so it can be picked up again.
+ */
+public final class RouteProgress
+{
+	// how far from the route the boat may be while still counting as sailing it
+	private static final int SNAP_DISTANCE = 32;
+	// segments searched past the cursor, so a skipped tick or a cut corner doesn't stall it
+	private static final int LOOKAHEAD = 8;
+	// ticks spent away from the route before the progress is reset
+	static final int OFF_ROUTE_TICKS = 20;
+
+	@Getter
+	private final RoutePath route;
+	// distance along the route to each vertex
+	private final double[] cumulative;
+	// index of the segment the boat was last projected onto
+	@Getter
+	private int segment;
+	@Getter
+	private double travelled;
+	// until the boat is first seen near the start of the route, only the first few segments are searched
+	private boolean anchored;
+	private int offRouteTicks;
+
+	public RouteProgress(RoutePath route)
+	{
+		this.route = route;
+		this.cumulative = new double[Math.max(route.size(), 1)];
+		for (int i = 1; i < route.size(); i++)
+		{
+			cumulative[i] = cumulative[i - 1] + Math.hypot(route.getX(i) - route.getX(i - 1), route.getY(i) - route.getY(i - 1));
+		}
+	}
+
+	public double getRemaining()
+	{
+		return Math.max(0, cumulative[cumulative.length - 1] - travelled);
+	}
+
+	/**
+	 * Projects {@code point} onto the route and advances the cursor if it lies further along.
+	 *
+	 * @return whether the travelled distance changed
+	 */
+	public boolean update(WorldPoint point)
+	{
+		int segments = route.size() - 1;
+		if (segments < 1)
+		{
+			return false;
+		}
+		if (point.getPlane() != route.getPlane())
+		{
+			return leaveRoute();
+		}
+
+		// a boat crossing the middle of the route on its way to the start must not pick it up there
+		int from = anchored ? segment : 0;
+		int to = Math.min(from + LOOKAHEAD, segments - 1);
+
+		int best = -1;
+		double bestT = 0;
+		double bestDistanceSquared = (double) SNAP_DISTANCE * SNAP_DISTANCE;
+		for (int s = from; s <= to; s++)
+		{
+			int x1 = route.getX(s);
+			int y1 = route.getY(s);
+			int dx = route.getX(s + 1) - x1;
+			int dy = route.getY(s + 1) - y1;
+			int px = point.getX() - x1;
+			int py = point.getY() - y1;
+
+			long lengthSquared = (long) dx * dx + (long) dy * dy;
+			double t = lengthSquared == 0 ? 0 : Math.min(Math.max((px * (double) dx + py * (double) dy) / lengthSquared, 0), 1);
+			double ex = px - t * dx;
+			double ey = py - t * dy;
+			double distanceSquared = ex * ex + ey * ey;
+			if (distanceSquared <= bestDistanceSquared)
+			{
+				// prefer the later segment on ties, the boat is leaving the earlier one
+				best = s;
+				bestT = t;
+				bestDistanceSquared = distanceSquared;
+			}
+		}
+
+		if (best == -1)
+		{
+			return leaveRoute();
+		}
+
+		offRouteTicks = 0;
+		anchored = true;
+		segment = best;
+
+		double along = cumulative[best] + bestT * (cumulative[best + 1] - cumulative[best]);
+		if (along <= travelled)
+		{
+			return false;
+		}
+		travelled = along;
+		return true;
+	}
+
+	/**
+	 * Counts a tick away from the route, dropping the progress once there have been too many in a row.
+	 *
+	 * @return whether the travelled distance changed
+	 */
+	private boolean leaveRoute()
+	{
+		if (!anchored || ++offRouteTicks < OFF_ROUTE_TICKS)
+		{
+			return false;
+		}
+
+		anchored = false;
+		offRouteTicks = 0;
+		segment = 0;
+		boolean changed = travelled != 0;
+		travelled = 0;
+		return changed;
+	}
+}
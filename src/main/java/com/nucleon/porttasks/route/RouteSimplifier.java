@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+/**
+ * Douglas-Peucker simplification of a route into the indices of the vertices worth keeping.
+ */
+final class RouteSimplifier
+{
+	private RouteSimplifier()
+	{
+	}
+
+	/**
+	 * @return ascending indices of the vertices to keep so that no dropped vertex lies further than
+	 * {@code tolerance} tiles from the simplified line; the first and last vertex are always kept
+	 */
+	static int[] simplify(RoutePath route, double tolerance)
+	{
+		int size = route.size();
+		if (size <= 2)
+		{
+			int[] all = new int[size];
+			for (int i = 0; i < size; i++)
+			{
+				all[i] = i;
+			}
+			return all;
+		}
+
+		boolean[] keep = new boolean[size];
+		keep[0] = true;
+		keep[size - 1] = true;
+
+		// explicit stack of [from, to] ranges still to be split
+		int[] stack = new int[size * 2];
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = size - 1;
+
+		double toleranceSquared = tolerance * tolerance;
+		while (top > 0)
+		{
+			int to = stack[--top];
+			int from = stack[--top];
+
+			int furthest = -1;
+			double furthestDistance = toleranceSquared;
+			for (int i = from + 1; i < to; i++)
+			{
+				double distance = distanceSquared(route, i, from, to);
+				if (distance > furthestDistance)
+				{
+					furthest = i;
+					furthestDistance = distance;
+				}
+			}
+
+			if (furthest != -1)
+			{
+				keep[furthest] = true;
+				stack[top++] = from;
+				stack[top++] = furthest;
+				stack[top++] = furthest;
+				stack[top++] = to;
+			}
+		}
+
+		int count = 0;
+		for (boolean k : keep)
+		{
+			count += k ? 1 : 0;
+		}
+
+		int[] kept = new int[count];
+		int next = 0;
+		for (int i = 0; i < size; i++)
+		{
+			if (keep[i])
+			{
+				kept[next++] = i;
+			}
+		}
+		return kept;
+	}
+
+	// squared distance from vertex i to the segment between vertices a and b
+	private static double distanceSquared(RoutePath route, int i, int a, int b)
+	{
+		double ax = route.getX(a);
+		double ay = route.getY(a);
+		double dx = route.getX(b) - ax;
+		double dy = route.getY(b) - ay;
+		double px = route.getX(i) - ax;
+		double py = route.getY(i) - ay;
+
+		double lengthSquared = dx * dx + dy * dy;
+		double t = lengthSquared == 0 ? 0 : Math.min(Math.max((px * dx + py * dy) / lengthSquared, 0), 1);
+		double ex = px - t * dx;
+		double ey = py - t * dy;
+		return ex * ex + ey * ey;
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import com.nucleon.porttasks.PortPathMatch;
+import com.nucleon.porttasks.enums.PortLocation;
+import com.nucleon.porttasks.enums.PortPaths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dense {@link PortLocation} x {@link PortLocation} table of routes. Pairs without a direct
+ * {@link PortPaths} entry are resolved to the shortest chain of existing routes, weighted by
+ * {@link PortPaths#getDistance()}, and stitched into a single composite route. Built once on first use,
+ * along with a flat matrix of the sailing distance between every pair of ports.
+ */
+public final class RouteTable
+{
+	private static final PortPathMatch[][] MATCHES;
+	// row-major by start port, 0 on the diagonal and infinite between ports that are not connected
+	private static final double[] DISTANCES;
+
+	static
+	{
+		int ports = PortLocation.values().length;
+		MATCHES = new PortPathMatch[ports][ports];
+
+		// enum order decides between duplicate entries for the same pair, as the linear scan used to
+		for (PortPaths path : PortPaths.values())
+		{
+			if (!isRoutable(path))
+			{
+				continue;
+			}
+			int start = path.getStart().ordinal();
+			int end = path.getEnd().ordinal();
+			if (MATCHES[start][end] == null && MATCHES[end][start] == null)
+			{
+				MATCHES[start][end] = new PortPathMatch(path, false);
+				MATCHES[end][start] = new PortPathMatch(path, true);
+			}
+		}
+
+		for (int source = 0; source < ports; source++)
+		{
+			synthesizeRoutes(source);
+		}
+
+		DISTANCES = new double[ports * ports];
+		for (int start = 0; start < ports; start++)
+		{
+			for (int end = 0; end < ports; end++)
+			{
+				PortPathMatch match = MATCHES[start][end];
+				DISTANCES[start * ports + end] = start == end ? 0 : match != null ? match.getDistance() : Double.POSITIVE_INFINITY;
+			}
+		}
+	}
+
+	private RouteTable()
+	{
+	}
+
+	/**
+	 * @return the route from {@code a} to {@code b}, or {@code null} if the ports are not connected
+	 */
+	public static PortPathMatch find(PortLocation a, PortLocation b)
+	{
+		return MATCHES[a.ordinal()][b.ordinal()];
+	}
+
+	/**
+	 * @return the sailing distance in tiles from {@code a} to {@code b} along {@link #find}, or
+	 * {@link Double#POSITIVE_INFINITY} if the ports are not connected
+	 */
+	public static double getDistance(PortLocation a, PortLocation b)
+	{
+		return DISTANCES[a.ordinal() * MATCHES.length + b.ordinal()];
+	}
+
+	private static boolean isRoutable(PortPaths path)
+	{
+		return path.getStart() != PortLocation.EMPTY && path.getEnd() != PortLocation.EMPTY && path.getStart() != path.getEnd();
+	}
+
+	private static void synthesizeRoutes(int source)
+	{
+		int ports = MATCHES.length;
+		double[] distance = new double[ports];
+		// the direct route used to reach each port on its shortest chain from source
+		PortPathMatch[] via = new PortPathMatch[ports];
+		int[] previous = new int[ports];
+		boolean[] settled = new boolean[ports];
+		Arrays.fill(distance, Double.POSITIVE_INFINITY);
+		distance[source] = 0;
+
+		// dense graph of ~31 nodes, a linear scan for the closest port beats a heap
+		for (int round = 0; round < ports; round++)
+		{
+			int current = -1;
+			for (int port = 0; port < ports; port++)
+			{
+				if (!settled[port] && distance[port] != Double.POSITIVE_INFINITY && (current == -1 || distance[port] < distance[current]))
+				{
+					current = port;
+				}
+			}
+			if (current == -1)
+			{
+				break;
+			}
+			settled[current] = true;
+
+			for (int next = 0; next < ports; next++)
+			{
+				PortPathMatch leg = MATCHES[current][next];
+				if (leg == null || leg.getPath() == PortPaths.DEFAULT || settled[next])
+				{
+					continue;
+				}
+				double candidate = distance[current] + leg.getDistance();
+				if (candidate < distance[next])
+				{
+					distance[next] = candidate;
+					via[next] = leg;
+					previous[next] = current;
+				}
+			}
+		}
+
+		for (int target = 0; target < ports; target++)
+		{
+			if (target == source || MATCHES[source][target] != null || via[target] == null)
+			{
+				continue;
+			}
+
+			List<RoutePath> legs = new ArrayList<>();
+			for (int port = target; port != source; port = previous[port])
+			{
+				legs.add(0, via[port].getRoute());
+			}
+
+			RoutePath route = stitch(legs);
+			MATCHES[source][target] = new PortPathMatch(PortPaths.DEFAULT, false, route, distance[target]);
+			MATCHES[target][source] = new PortPathMatch(PortPaths.DEFAULT, true, route.reverse(), distance[target]);
+		}
+	}
+
+	private static RoutePath stitch(List<RoutePath> legs)
+	{
+		int size = 1;
+		for (RoutePath leg : legs)
+		{
+			size += leg.size() - 1;
+		}
+
+		int[] vertices = new int[size * 2];
+		int vertex = 0;
+		for (RoutePath leg : legs)
+		{
+			// every leg starts on the navigation point the previous one ended on
+			for (int i = vertex == 0 ? 0 : 1; i < leg.size(); i++)
+			{
+				vertices[vertex * 2] = leg.getX(i);
+				vertices[vertex * 2 + 1] = leg.getY(i);
+				vertex++;
+			}
+		}
+		return RoutePath.pair(vertices, 0, size, legs.get(0).getPlane());
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+/**
+ * Tile by tile polyline of a route, the steps the tracer animation pulses along.
+ * Segment {@code i} runs through the tiles from {@link #getSegmentStart(int) getSegmentStart(i)}
+ * to {@code getSegmentStart(i + 1)}, sharing its last tile with the next segment.
+ */
+public final class RouteTiles
+{
+	// two ints (x, y) per tile
+	private final int[] tiles;
+	// index of the first tile of each segment, plus the index of the final tile
+	private final int[] segmentStarts;
+
+	RouteTiles(RoutePath route)
+	{
+		int segments = Math.max(route.size() - 1, 0);
+		segmentStarts = new int[segments + 1];
+
+		int count = 1;
+		for (int i = 0; i < segments; i++)
+		{
+			segmentStarts[i] = count - 1;
+			count += steps(route, i);
+		}
+		segmentStarts[segments] = count - 1;
+
+		tiles = new int[count * 2];
+		if (route.size() == 0)
+		{
+			return;
+		}
+		tiles[0] = route.getX(0);
+		tiles[1] = route.getY(0);
+		for (int i = 0; i < segments; i++)
+		{
+			int startX = route.getX(i);
+			int startY = route.getY(i);
+			int endX = route.getX(i + 1);
+			int endY = route.getY(i + 1);
+			int total = steps(route, i);
+			int tile = segmentStarts[i] + 1;
+			for (int step = 1; step <= total; step++, tile++)
+			{
+				double t = step / (double) total;
+				tiles[tile * 2] = (int) Math.round(startX + (endX - startX) * t);
+				tiles[tile * 2 + 1] = (int) Math.round(startY + (endY - startY) * t);
+			}
+		}
+	}
+
+	public int getSegmentStart(int segment)
+	{
+		return segmentStarts[segment];
+	}
+
+	/**
+	 * @return the number of tile steps in the segment, at least one
+	 */
+	public int getSteps(int segment)
+	{
+		return segmentStarts[segment + 1] - segmentStarts[segment];
+	}
+
+	public int getX(int tile)
+	{
+		return tiles[tile * 2];
+	}
+
+	public int getY(int tile)
+	{
+		return tiles[tile * 2 + 1];
+	}
+
+	// the chebyshev tile distance between both ends, so every step moves to a neighbouring tile
+	private static int steps(RoutePath route, int segment)
+	{
+		int dx = Math.abs(route.getX(segment + 1) - route.getX(segment));
+		int dy = Math.abs(route.getY(segment + 1) - route.getY(segment));
+		return Math.max(Math.max(dx, dy), 1);
+	}
+}
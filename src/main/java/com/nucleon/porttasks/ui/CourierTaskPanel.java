@@ -31,6 +31,7 @@ import com.nucleon.porttasks.ui.adapters.HidePortTaskSlotOverlay;
 import com.nucleon.porttasks.ui.adapters.PortTaskSlotOverlayColor;
 import com.nucleon.porttasks.PortTasksPlugin;
 import com.nucleon.porttasks.enums.TaskReward;
+import com.nucleon.porttasks.route.RouteProgress;
 
 import net.runelite.api.ItemComposition;
 import net.runelite.client.callback.ClientThread;
@@ -152,6 +153,9 @@ public class CourierTaskPanel extends JPanel implements TaskPanel
 		JPanel xpWrapper = new JPanel(new BorderLayout());
 		xpWrapper.setBackground(ColorScheme.DARKER_GRAY_COLOR);
 
+		JPanel boatWrapper = new JPanel(new BorderLayout());
+		boatWrapper.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+
 		JPanel hideOverlay = new JPanel(new FlowLayout(FlowLayout.RIGHT, 3, 3));
 		hideOverlay.setBackground(ColorScheme.DARKER_GRAY_COLOR);
 
@@ -219,10 +223,13 @@ public class CourierTaskPanel extends JPanel implements TaskPanel
 		destinationWrapper.setBorder(NAME_BOTTOM_BORDER);
 		xpWrapper.add(xpLabel, BorderLayout.WEST);
 		xpWrapper.setBorder(NAME_BOTTOM_BORDER);
+		boatWrapper.add(boatLabel, BorderLayout.WEST);
+		boatWrapper.setBorder(NAME_BOTTOM_BORDER);
 
 		portSlotWrapper.add(noticeWrapper);
 		portSlotWrapper.add(cargoWrapper);
 		portSlotWrapper.add(destinationWrapper);
+		portSlotWrapper.add(boatWrapper);
 		portSlotWrapper.add(xpWrapper);
 
 		PortTaskSlotContainer.setLayout(new BorderLayout());
@@ -245,6 +252,7 @@ public class CourierTaskPanel extends JPanel implements TaskPanel
 		colourPicker.setOnColorChange(c ->
 		{
 			courierTask.setOverlayColor(c);
+			plugin.tracerConfig.clearDimmedColors();
 			PortTaskOverlayColor.setBorder(new MatteBorder(0, 0, 3, 0, courierTask.getOverlayColor()));
 			PortTaskOverlayColor.setIcon(BORDER_COLOR_ICON);
 			updateColorIndicators();
@@ -276,6 +284,15 @@ public class CourierTaskPanel extends JPanel implements TaskPanel
 		hidePortTaskSlotOverlay.setIcon(courierTask.isTracking() ? VISIBLE_ICON : INVISIBLE_ICON);
 	}
 
+	public void updateRemainingDistance(CourierTask task, int remaining)
+	{
+		if (task != courierTask)
+		{
+			return;
+		}
+		boatLabel.setText(remaining + " tiles remaining");
+	}
+
 	private void updateImages(CourierTask courierTask)
 	{
 		cargoLabel.setIcon(PACKAGE);
@@ -293,12 +310,23 @@ public class CourierTaskPanel extends JPanel implements TaskPanel
 		String xp = TaskReward.getRewardForTask(courierTask.getData().getDbrow());
 		xpLabel.setIcon(LIGHTBULB);
 		xpLabel.setText(xp + " XP");
-		xpLabel.setToolTipText("Delivery XP reward");
+		xpLabel.setToolTipText(String.format("Delivery XP reward (%.1f xp/tile)", courierTask.getData().getXpPerTile()));
+
+		boatLabel.setText(Math.round(courierTask.getData().getDistance()) + " tiles remaining");
+		boatLabel.setToolTipText("Distance left to sail");
 
 		clientThread.invokeLater(() ->
 		{
 			final ItemComposition cargoComposition = itemManager.getItemComposition(courierTask.getData().cargo);
 			noticeLabel.setText(courierTask.getData().getCargoAmount() + "x " + cargoComposition.getMembersName());
+
+			// progress is updated on the client thread, so it is read there and handed back to the panel
+			RouteProgress progress = plugin.getRouteProgress(courierTask);
+			if (progress != null)
+			{
+				int remaining = (int) Math.round(progress.getRemaining());
+				SwingUtilities.invokeLater(() -> updateRemainingDistance(courierTask, remaining));
+			}
 		});
 	}
 
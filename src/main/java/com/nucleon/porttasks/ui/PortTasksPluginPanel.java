@@ -28,6 +28,7 @@ package com.nucleon.porttasks.ui;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 
@@ -187,6 +188,17 @@ public class PortTasksPluginPanel extends PluginPanel
 			revalidate();
 		}
 
+		public void updateRemainingDistance(CourierTask task, int remaining)
+		{
+			for (Component component : markerView.getComponents())
+			{
+				if (component instanceof CourierTaskPanel)
+				{
+					((CourierTaskPanel) component).updateRemainingDistance(task, remaining);
+				}
+			}
+		}
+
 		public void updateBountyPanel(BountyTask task) // avoid rebuilding the entire JPanel lol
 		{
 			BountyTaskPanel panel = (BountyTaskPanel) markerView.getComponent(task.getSlot());
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.enums;
+
+import net.runelite.api.gameval.ObjectID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class ObjectKindTest
+{
+	@Test
+	public void classifiesPortObjects()
+	{
+		assertEquals(ObjectKind.GANGPLANK, ObjectKind.of(PortLocation.PORT_SARIM.getGangplankObject()));
+		assertEquals(ObjectKind.NOTICEBOARD, ObjectKind.of(PortLocation.PORT_SARIM.getNoticeboardObject()));
+		assertEquals(ObjectKind.LEDGER, ObjectKind.of(PortLocation.PORT_SARIM.getLedgerObject()));
+		assertEquals(ObjectKind.GANGPLANK, ObjectKind.of(ObjectID.SAILING_GANGPLANK_PROXY));
+	}
+
+	@Test
+	public void classifiesEveryPort()
+	{
+		for (PortLocation port : PortLocation.values())
+		{
+			if (port.getGangplankObject() >= 0)
+			{
+				assertEquals(port.name(), ObjectKind.GANGPLANK, ObjectKind.of(port.getGangplankObject()));
+			}
+			if (port.getLedgerObject() >= 0)
+			{
+				assertEquals(port.name(), ObjectKind.LEDGER, ObjectKind.of(port.getLedgerObject()));
+			}
+		}
+	}
+
+	@Test
+	public void classifiesBoatObjects()
+	{
+		// both ends of the helm range are included
+		assertEquals(ObjectKind.HELM, ObjectKind.of(ObjectID.SAILING_BOAT_STEERING_KANDARIN_1X3_WOOD));
+		assertEquals(ObjectKind.HELM, ObjectKind.of(ObjectID.SAILING_INTRO_HELM_NOT_IN_USE));
+		assertEquals(ObjectKind.CARGO_HOLD, ObjectKind.of(ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT));
+		assertEquals(ObjectKind.CARGO_HOLD, ObjectKind.of(ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE_CARGO));
+	}
+
+	@Test
+	public void ignoresUntrackedIds()
+	{
+		assertNull(ObjectKind.of(0));
+		assertNull(ObjectKind.of(-1));
+		assertNull(ObjectKind.of(Integer.MIN_VALUE));
+		assertNull(ObjectKind.of(Integer.MAX_VALUE));
+	}
+}
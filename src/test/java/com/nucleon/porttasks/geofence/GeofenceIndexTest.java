@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.geofence;
+
+import com.nucleon.porttasks.enums.PortLocation;
+import com.nucleon.porttasks.overlay.Zone;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GeofenceIndexTest
+{
+	private GeofenceIndex index;
+
+	@Before
+	public void before()
+	{
+		index = new GeofenceIndex();
+	}
+
+	private static Geofence geofence(int minX, int minY, int maxX, int maxY)
+	{
+		return new Geofence(GeofenceType.PORT, PortLocation.PORT_SARIM, new Zone(new WorldPoint(minX, minY, 0), new WorldPoint(maxX, maxY, 0)));
+	}
+
+	private List<Geofence> collect(int x, int y, int plane)
+	{
+		List<Geofence> out = new ArrayList<>();
+		index.collect(new WorldPoint(x, y, plane), out);
+		return out;
+	}
+
+	@Test
+	public void collectsContainingGeofences()
+	{
+		Geofence small = geofence(3000, 3000, 3010, 3010);
+		Geofence large = geofence(2990, 2990, 3030, 3030);
+		index.add(small);
+		index.add(large);
+
+		assertEquals(List.of(small, large), collect(3005, 3005, 0));
+		assertEquals(List.of(large), collect(3020, 3020, 0));
+		// edges are inside
+		assertEquals(List.of(small, large), collect(3010, 3000, 0));
+		assertTrue(collect(3031, 3005, 0).isEmpty());
+		assertTrue(collect(3005, 3005, 1).isEmpty());
+	}
+
+	@Test
+	public void collectsAcrossRegionBoundaries()
+	{
+		// spans four 64x64 regions
+		Geofence geofence = geofence(3130, 3130, 3140, 3140);
+		index.add(geofence);
+
+		assertEquals(List.of(geofence), collect(3130, 3130, 0));
+		assertEquals(List.of(geofence), collect(3140, 3130, 0));
+		assertEquals(List.of(geofence), collect(3130, 3140, 0));
+		assertEquals(List.of(geofence), collect(3140, 3140, 0));
+	}
+
+	@Test
+	public void removeDropsFromEveryRegion()
+	{
+		Geofence removed = geofence(3130, 3130, 3140, 3140);
+		Geofence kept = geofence(3135, 3135, 3145, 3145);
+		index.add(removed);
+		index.add(kept);
+		index.remove(removed);
+
+		assertTrue(collect(3130, 3130, 0).isEmpty());
+		assertEquals(List.of(kept), collect(3140, 3140, 0));
+
+		// removing one that was never added is harmless
+		index.remove(geofence(0, 0, 10, 10));
+		assertEquals(List.of(kept), collect(3136, 3136, 0));
+	}
+
+	@Test
+	public void clearDropsEverything()
+	{
+		index.add(geofence(3000, 3000, 3010, 3010));
+		index.clear();
+		assertTrue(collect(3005, 3005, 0).isEmpty());
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.geofence;
+
+import com.nucleon.porttasks.enums.PortLocation;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.GameObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GeofenceTrackerTest
+{
+	// well away from every port, so only the ledger geofence is there
+	private static final WorldPoint LEDGER = new WorldPoint(3300, 3500, 0);
+	private static final WorldPoint AT_LEDGER = LEDGER.dx(1);
+	private static final WorldPoint AWAY = LEDGER.dx(50);
+
+	private final List<GeofenceEvent> events = new ArrayList<>();
+	private GeofenceTracker tracker;
+
+	@Before
+	public void before()
+	{
+		EventBus eventBus = new EventBus()
+		{
+			@Override
+			public void post(Object event)
+			{
+				events.add((GeofenceEvent) event);
+			}
+		};
+		tracker = new GeofenceTracker(null, eventBus);
+	}
+
+	private static GameObject ledger(WorldPoint location)
+	{
+		return (GameObject) Proxy.newProxyInstance(GameObject.class.getClassLoader(), new Class<?>[]{GameObject.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getId":
+					return PortLocation.PORT_SARIM.getLedgerObject();
+				case "getWorldLocation":
+					return location;
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "equals":
+					return args[0] == proxy;
+				default:
+					return null;
+			}
+		});
+	}
+
+	private void assertEvent(GeofenceEvent.Subject subject, boolean entered)
+	{
+		assertTrue("no event left", !events.isEmpty());
+		GeofenceEvent event = events.remove(0);
+		assertSame(subject, event.getSubject());
+		assertEquals(entered, event.isEntered());
+		assertSame(GeofenceType.LEDGER, event.getGeofence().getType());
+		assertSame(PortLocation.PORT_SARIM, event.getGeofence().getPort());
+	}
+
+	@Test
+	public void postsEnterAndExit()
+	{
+		tracker.addLedger(ledger(LEDGER));
+
+		tracker.update(null, AT_LEDGER);
+		assertEvent(GeofenceEvent.Subject.PLAYER, true);
+		assertTrue(events.isEmpty());
+
+		// staying inside posts nothing
+		tracker.update(null, AT_LEDGER.dy(1));
+		assertTrue(events.isEmpty());
+
+		tracker.update(null, AWAY);
+		assertEvent(GeofenceEvent.Subject.PLAYER, false);
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	public void tracksBoatAndPlayerSeparately()
+	{
+		tracker.addLedger(ledger(LEDGER));
+
+		tracker.update(AT_LEDGER, AT_LEDGER);
+		assertEvent(GeofenceEvent.Subject.BOAT, true);
+		assertEvent(GeofenceEvent.Subject.PLAYER, true);
+
+		tracker.update(null, AT_LEDGER);
+		assertEvent(GeofenceEvent.Subject.BOAT, false);
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	public void despawnLeavesGeofence()
+	{
+		GameObject ledger = ledger(LEDGER);
+		tracker.addLedger(ledger);
+		tracker.update(null, AT_LEDGER);
+		events.clear();
+
+		tracker.removeLedger(ledger);
+		assertEvent(GeofenceEvent.Subject.PLAYER, false);
+		tracker.update(null, AT_LEDGER);
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	public void reloadKeepsRespawnedLedger()
+	{
+		GameObject ledger = ledger(LEDGER);
+		tracker.addLedger(ledger);
+		tracker.update(null, AT_LEDGER);
+		events.clear();
+
+		// the scene reloads, the ledger may despawn and spawns again as a new object in the same place
+		tracker.reloadLedgers();
+		tracker.removeLedger(ledger);
+		tracker.addLedger(ledger(LEDGER));
+		tracker.update(null, AT_LEDGER);
+		assertTrue(events.isEmpty());
+
+		tracker.update(null, AWAY);
+		assertEvent(GeofenceEvent.Subject.PLAYER, false);
+	}
+
+	@Test
+	public void reloadDropsLedgerThatDoesNotRespawn()
+	{
+		tracker.addLedger(ledger(LEDGER));
+		tracker.update(null, AT_LEDGER);
+		events.clear();
+
+		tracker.reloadLedgers();
+		assertTrue(events.isEmpty());
+
+		tracker.update(null, AT_LEDGER);
+		assertEvent(GeofenceEvent.Subject.PLAYER, false);
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	public void ignoresObjectsThatAreNotLedgers()
+	{
+		GameObject other = (GameObject) Proxy.newProxyInstance(GameObject.class.getClassLoader(), new Class<?>[]{GameObject.class},
+			(proxy, method, args) -> method.getName().equals("getId") ? PortLocation.PORT_SARIM.getGangplankObject() : method.getName().equals("getWorldLocation") ? LEDGER : null);
+		tracker.addLedger(other);
+		tracker.update(null, AT_LEDGER);
+		assertTrue(events.isEmpty());
+	}
+}
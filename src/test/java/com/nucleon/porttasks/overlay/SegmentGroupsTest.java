@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.overlay;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SegmentGroupsTest
+{
+	private SegmentGroups groups;
+
+	@Before
+	public void before()
+	{
+		groups = new SegmentGroups();
+	}
+
+	@Test
+	public void mergesIdenticalSegments()
+	{
+		groups.add(0, 4, 10, 20, 30, 40, 0);
+		groups.add(1, 7, 10, 20, 30, 40, 0);
+		groups.add(2, 1, 10, 20, 30, 40, 5);
+
+		assertEquals(2, groups.size());
+		assertEquals(0, groups.getRoute(0));
+		assertEquals(4, groups.getSegment(0));
+		assertEquals(2, groups.getMemberCount(0));
+		assertEquals(0, groups.getMemberRoute(0, 0));
+		assertEquals(1, groups.getMemberRoute(0, 1));
+		// a different height is drawn separately
+		assertEquals(1, groups.getMemberCount(1));
+	}
+
+	@Test
+	public void mergesUndirectedSegmentsInBothDirections()
+	{
+		groups.addUndirected(0, 3, 10, 20, 30, 40, 0);
+		groups.addUndirected(1, 8, 30, 40, 10, 20, 0);
+		// equal x, ordered on y
+		groups.addUndirected(0, 4, 30, 40, 30, 10, 0);
+		groups.addUndirected(1, 7, 30, 10, 30, 40, 0);
+
+		assertEquals(2, groups.size());
+		assertEquals(2, groups.getMemberCount(0));
+		assertEquals(3, groups.getSegment(0));
+		assertEquals(1, groups.getMemberRoute(0, 1));
+		assertEquals(2, groups.getMemberCount(1));
+		assertEquals(4, groups.getSegment(1));
+	}
+
+	@Test
+	public void keepsDirectedSegmentsApart()
+	{
+		// tracer pulses run along each route, so opposite directions are not merged
+		groups.add(0, 3, 10, 20, 30, 40, 0);
+		groups.add(1, 8, 30, 40, 10, 20, 0);
+		groups.add(2, 5, 10, 20, 30, 40, 0);
+
+		assertEquals(2, groups.size());
+		assertEquals(2, groups.getMemberCount(0));
+		assertEquals(2, groups.getMemberRoute(0, 1));
+		assertEquals(1, groups.getMemberCount(1));
+		assertEquals(1, groups.getRoute(1));
+	}
+
+	@Test
+	public void growsPastInitialGroupCapacity()
+	{
+		int count = 200;
+		for (int i = 0; i < count; i++)
+		{
+			groups.add(i % 3, i, i, 0, i + 1, 0, 0);
+		}
+		// every segment again, after the table has been rehashed
+		for (int i = 0; i < count; i++)
+		{
+			groups.add(3, i, i, 0, i + 1, 0, 0);
+		}
+
+		assertEquals(count, groups.size());
+		for (int i = 0; i < count; i++)
+		{
+			assertEquals(i, groups.getSegment(i));
+			assertEquals(i % 3, groups.getRoute(i));
+			assertEquals(2, groups.getMemberCount(i));
+			assertEquals(3, groups.getMemberRoute(i, 1));
+		}
+	}
+
+	@Test
+	public void growsPastInitialMemberCapacity()
+	{
+		int count = 150;
+		for (int route = 0; route < count; route++)
+		{
+			groups.add(route, 0, 10, 20, 30, 40, 0);
+			groups.add(route, 1, 30, 40, 50, 60, 0);
+		}
+
+		assertEquals(2, groups.size());
+		for (int group = 0; group < 2; group++)
+		{
+			assertEquals(count, groups.getMemberCount(group));
+			for (int member = 0; member < count; member++)
+			{
+				assertEquals(member, groups.getMemberRoute(group, member));
+			}
+		}
+	}
+
+	@Test
+	public void clearForgetsGroups()
+	{
+		for (int i = 0; i < 100; i++)
+		{
+			groups.add(0, i, i, 0, i + 1, 0, 0);
+		}
+		groups.clear();
+		assertEquals(0, groups.size());
+
+		groups.add(1, 9, 0, 0, 1, 0, 0);
+		assertEquals(1, groups.size());
+		assertEquals(1, groups.getMemberCount(0));
+		assertEquals(1, groups.getRoute(0));
+		assertEquals(9, groups.getSegment(0));
+	}
+}
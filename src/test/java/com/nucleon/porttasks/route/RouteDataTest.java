@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import com.nucleon.porttasks.enums.PortPaths;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class RouteDataTest
+{
+	private static final String SOURCE = "src/main/routes/port_paths.txt";
+
+	@Test
+	public void roundTripsSource() throws IOException
+	{
+		List<String> errors = new ArrayList<>();
+		Map<String, int[]> routes = RouteDataTool.parse(Files.readAllLines(Paths.get(SOURCE), StandardCharsets.UTF_8), errors);
+		assertTrue(errors.toString(), errors.isEmpty());
+
+		int[][] decoded = RouteData.decode(ByteBuffer.wrap(RouteDataTool.encode(routes)));
+		for (PortPaths path : PortPaths.values())
+		{
+			int[] legs = routes.get(path.name());
+			assertNotNull(path.name(), legs);
+			assertArrayEquals(path.name(), legs, decoded[path.ordinal()]);
+			// the bundled resource must hold the same moves
+			assertArrayEquals(path.name(), legs, path.getLegs());
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void rejectsWrongMagic() throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.wrap(RouteDataTool.encode(Map.of()));
+		buffer.putInt(0, 0);
+		RouteData.decode(buffer);
+	}
+
+	@Test(expected = IOException.class)
+	public void rejectsWrongVersion() throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.wrap(RouteDataTool.encode(Map.of()));
+		buffer.putShort(4, (short) (RouteData.VERSION + 1));
+		RouteData.decode(buffer);
+	}
+
+	@Test(expected = IOException.class)
+	public void rejectsTruncatedData() throws IOException
+	{
+		byte[] encoded = RouteDataTool.encode(Map.of(PortPaths.CATHERBY_BRIMHAVEN.name(), new int[]{10, -4}));
+		RouteData.decode(ByteBuffer.wrap(encoded, 0, encoded.length - 1).slice());
+	}
+
+	@Test
+	public void getLegsReturnsCopy()
+	{
+		int[] legs = PortPaths.CATHERBY_BRIMHAVEN.getLegs();
+		assertTrue(legs.length > 0);
+		legs[0]++;
+		assertEquals(legs[0] - 1, PortPaths.CATHERBY_BRIMHAVEN.getLegs()[0]);
+	}
+}
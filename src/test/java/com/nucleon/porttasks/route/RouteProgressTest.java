@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RouteProgressTest
+{
+	private static final int SEGMENTS = 30;
+	private static final int SEGMENT_LENGTH = 10;
+	private static final int START_X = 3000;
+	private static final int Y = 3000;
+
+	private RouteProgress progress;
+
+	@Before
+	public void before()
+	{
+		// a straight route heading east, one vertex every SEGMENT_LENGTH tiles
+		int[] vertices = new int[(SEGMENTS + 1) * 2];
+		for (int i = 0; i <= SEGMENTS; i++)
+		{
+			vertices[i * 2] = START_X + i * SEGMENT_LENGTH;
+			vertices[i * 2 + 1] = Y;
+		}
+		progress = new RouteProgress(RoutePath.pair(vertices, 0, SEGMENTS + 1, 0));
+	}
+
+	private static WorldPoint at(int along)
+	{
+		return new WorldPoint(START_X + along, Y + 3, 0);
+	}
+
+	@Test
+	public void anchorsNearStart()
+	{
+		assertTrue(progress.update(at(5)));
+		assertEquals(5, progress.getTravelled(), 0);
+		assertEquals(0, progress.getSegment());
+		assertEquals(SEGMENTS * SEGMENT_LENGTH - 5, progress.getRemaining(), 0);
+	}
+
+	@Test
+	public void ignoresMiddleOfRouteBeforeAnchoring()
+	{
+		assertFalse(progress.update(at(200)));
+		assertEquals(0, progress.getTravelled(), 0);
+		assertEquals(0, progress.getSegment());
+
+		// picking the route up at its start still works afterwards
+		assertTrue(progress.update(at(15)));
+		assertEquals(15, progress.getTravelled(), 0);
+		assertEquals(1, progress.getSegment());
+	}
+
+	@Test
+	public void onlyMovesForward()
+	{
+		assertTrue(progress.update(at(50)));
+		assertFalse(progress.update(at(40)));
+		assertEquals(50, progress.getTravelled(), 0);
+
+		assertTrue(progress.update(at(62)));
+		assertEquals(62, progress.getTravelled(), 0);
+		assertEquals(6, progress.getSegment());
+	}
+
+	@Test
+	public void stallsPastLookahead()
+	{
+		assertTrue(progress.update(at(5)));
+
+		// too far ahead of the cursor to be found
+		assertFalse(progress.update(at(200)));
+		assertEquals(5, progress.getTravelled(), 0);
+		assertEquals(0, progress.getSegment());
+
+		// within the lookahead the cursor catches up
+		assertTrue(progress.update(at(85)));
+		assertEquals(85, progress.getTravelled(), 0);
+		assertEquals(8, progress.getSegment());
+	}
+
+	@Test
+	public void ignoresOtherPlanes()
+	{
+		assertFalse(progress.update(new WorldPoint(START_X + 5, Y, 1)));
+		assertEquals(0, progress.getTravelled(), 0);
+
+		assertTrue(progress.update(at(5)));
+		assertFalse(progress.update(new WorldPoint(START_X + 25, Y, 1)));
+		assertEquals(5, progress.getTravelled(), 0);
+	}
+
+	@Test
+	public void resetsAfterLeavingRoute()
+	{
+		assertTrue(progress.update(at(50)));
+
+		WorldPoint away = new WorldPoint(START_X + 50, Y + 100, 0);
+		for (int i = 1; i < RouteProgress.OFF_ROUTE_TICKS; i++)
+		{
+			assertFalse(progress.update(away));
+			assertEquals(50, progress.getTravelled(), 0);
+		}
+		assertTrue(progress.update(away));
+		assertEquals(0, progress.getTravelled(), 0);
+		assertEquals(0, progress.getSegment());
+
+		assertTrue(progress.update(at(5)));
+		assertEquals(5, progress.getTravelled(), 0);
+	}
+
+	@Test
+	public void returningToRouteKeepsProgress()
+	{
+		assertTrue(progress.update(at(50)));
+
+		WorldPoint away = new WorldPoint(START_X + 50, Y + 100, 0);
+		for (int i = 1; i < RouteProgress.OFF_ROUTE_TICKS; i++)
+		{
+			progress.update(away);
+		}
+		assertTrue(progress.update(at(55)));
+
+		// the count starts over once the boat is back on the route
+		for (int i = 1; i < RouteProgress.OFF_ROUTE_TICKS; i++)
+		{
+			assertFalse(progress.update(away));
+		}
+		assertEquals(55, progress.getTravelled(), 0);
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import com.nucleon.porttasks.PortPathMatch;
+import com.nucleon.porttasks.enums.PortLocation;
+import com.nucleon.porttasks.enums.PortPaths;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class RouteTableTest
+{
+	private static final double EPSILON = 1e-6;
+
+	@Test
+	public void directRoutesMatchPortPaths()
+	{
+		assertDirect(PortLocation.CATHERBY, PortLocation.BRIMHAVEN, PortPaths.CATHERBY_BRIMHAVEN, false);
+		assertDirect(PortLocation.BRIMHAVEN, PortLocation.CATHERBY, PortPaths.CATHERBY_BRIMHAVEN, true);
+		assertDirect(PortLocation.PORT_SARIM, PortLocation.MUSA_POINT, PortPaths.MUSA_POINT_PORT_SARIM, true);
+		assertDirect(PortLocation.LANDS_END, PortLocation.HOSIDIUS, PortPaths.LANDS_END_HOSIDIUS, false);
+	}
+
+	@Test
+	public void everyDirectEntryIsFound()
+	{
+		for (PortPaths path : PortPaths.values())
+		{
+			if (path.getStart() == PortLocation.EMPTY || path.getStart() == path.getEnd())
+			{
+				continue;
+			}
+
+			PortPathMatch match = RouteTable.find(path.getStart(), path.getEnd());
+			assertNotNull(path.name(), match);
+			assertNotEquals(PortPaths.DEFAULT, match.getPath());
+			// a later duplicate of the same pair loses to the first one in enum order
+			assertTrue(path.name(), match.getPath().ordinal() <= path.ordinal());
+			assertSame(match.getPath().getRoute(match.isReversed()), match.getRoute());
+			assertEquals(match.getPath().getDistance(), match.getDistance(), EPSILON);
+			assertSame(match, PortPaths.findPath(path.getStart(), path.getEnd()));
+		}
+	}
+
+	@Test
+	public void routesJoinTheirPorts()
+	{
+		for (PortLocation a : PortLocation.values())
+		{
+			for (PortLocation b : PortLocation.values())
+			{
+				PortPathMatch match = RouteTable.find(a, b);
+				if (match == null)
+				{
+					continue;
+				}
+
+				RoutePath route = match.getRoute();
+				String pair = a + " -> " + b;
+				assertEquals(pair, a.getNavigationLocation(), route.toWorldPoint(0));
+				assertEquals(pair, b.getNavigationLocation(), route.toWorldPoint(route.size() - 1));
+			}
+		}
+	}
+
+	@Test
+	public void distancesAreSymmetric()
+	{
+		for (PortLocation a : PortLocation.values())
+		{
+			assertEquals(0, RouteTable.getDistance(a, a), 0);
+			for (PortLocation b : PortLocation.values())
+			{
+				assertEquals(a + " <-> " + b, RouteTable.getDistance(a, b), RouteTable.getDistance(b, a), EPSILON);
+			}
+		}
+	}
+
+	@Test
+	public void stitchedDistanceIsSumOfLegs()
+	{
+		int stitched = 0;
+		for (PortLocation a : PortLocation.values())
+		{
+			for (PortLocation b : PortLocation.values())
+			{
+				PortPathMatch match = RouteTable.find(a, b);
+				if (match == null || match.getPath() != PortPaths.DEFAULT)
+				{
+					continue;
+				}
+				stitched++;
+
+				// walk the route from port to port, each stop must be joined to the last by a direct route
+				RoutePath route = match.getRoute();
+				PortLocation previous = a;
+				double sum = 0;
+				for (int i = 1; i < route.size(); i++)
+				{
+					PortLocation port = portAt(route.toWorldPoint(i));
+					// a route can reach a port's navigation point before its closing vertex
+					if (port == null || port == previous)
+					{
+						continue;
+					}
+
+					PortPathMatch leg = RouteTable.find(previous, port);
+					assertNotNull(previous + " -> " + port, leg);
+					assertNotEquals(PortPaths.DEFAULT, leg.getPath());
+					sum += leg.getDistance();
+					previous = port;
+				}
+
+				assertSame(b, previous);
+				assertEquals(a + " -> " + b, match.getDistance(), sum, EPSILON);
+				assertEquals(match.getDistance(), RouteTable.getDistance(a, b), 0);
+			}
+		}
+		assertTrue(stitched > 0);
+	}
+
+	@Test
+	public void unconnectedPortsHaveNoRoute()
+	{
+		assertNull(RouteTable.find(PortLocation.EMPTY, PortLocation.PORT_SARIM));
+		assertEquals(Double.POSITIVE_INFINITY, RouteTable.getDistance(PortLocation.EMPTY, PortLocation.PORT_SARIM), 0);
+		assertSame(PortPaths.DEFAULT, PortPaths.findPath(PortLocation.EMPTY, PortLocation.PORT_SARIM).getPath());
+	}
+
+	private static void assertDirect(PortLocation a, PortLocation b, PortPaths path, boolean reversed)
+	{
+		PortPathMatch match = RouteTable.find(a, b);
+		assertSame(path, match.getPath());
+		assertEquals(reversed, match.isReversed());
+		assertSame(path.getRoute(reversed), match.getRoute());
+		assertEquals(path.getDistance(), RouteTable.getDistance(a, b), EPSILON);
+	}
+
+	private static PortLocation portAt(WorldPoint point)
+	{
+		for (PortLocation port : PortLocation.values())
+		{
+			if (port != PortLocation.EMPTY && port.getNavigationLocation().equals(point))
+			{
+				return port;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025, nucleon <https://github.com/nucleon>
+ * Copyright (c) 2025, Cooper Morris <https://github.com/coopermor>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.nucleon.porttasks.route;
+
+import com.nucleon.porttasks.enums.PortLocation;
+import com.nucleon.porttasks.enums.PortPaths;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles {@code port_paths.txt} into the binary resource read by {@link RouteData}, or checks that
+ * the committed resource is valid and up to date.
+ * <p>
+ * Usage: {@code RouteDataTool generate|validate <port_paths.txt> <port_paths.bin>}
+ */
+public class RouteDataTool
+{
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 3 || !(args[0].equals("generate") || args[0].equals("validate")))
+		{
+			System.err.println("usage: RouteDataTool generate|validate <port_paths.txt> <port_paths.bin>");
+			System.exit(2);
+			return;
+		}
+
+		Path source = Paths.get(args[1]);
+		Path resource = Paths.get(args[2]);
+
+		List<String> errors = new ArrayList<>();
+		Map<String, int[]> routes = parse(Files.readAllLines(source, StandardCharsets.UTF_8), errors);
+		for (PortPaths path : PortPaths.values())
+		{
+			if (!routes.containsKey(path.name()))
+			{
+				errors.add(source + ": no route for " + path.name());
+			}
+		}
+
+		if (!errors.isEmpty())
+		{
+			errors.forEach(System.err::println);
+			System.exit(1);
+			return;
+		}
+
+		byte[] encoded = encode(routes);
+		if (args[0].equals("generate"))
+		{
+			Files.createDirectories(resource.toAbsolutePath().getParent());
+			Files.write(resource, encoded);
+			System.out.println("Wrote " + routes.size() + " routes (" + encoded.length + " bytes) to " + resource);
+			return;
+		}
+
+		if (!Files.exists(resource) || !Arrays.equals(encoded, Files.readAllBytes(resource)))
+		{
+			System.err.println(resource + " is out of date with " + source + ", run ./gradlew generateRouteData");
+			System.exit(1);
+			return;
+		}
+		System.out.println(resource + " is up to date (" + routes.size() + " routes)");
+	}
+
+	/**
+	 * @return the moves of each route by PortPaths name, in file order; problems are added to {@code errors}
+	 */
+	static Map<String, int[]> parse(List<String> lines, List<String> errors)
+	{
+		Map<String, int[]> routes = new LinkedHashMap<>();
+		String name = null;
+		List<Integer> moves = new ArrayList<>();
+
+		for (int n = 0; n < lines.size(); n++)
+		{
+			String line = lines.get(n).trim();
+			if (line.isEmpty() || line.startsWith("#"))
+			{
+				continue;
+			}
+
+			String where = "line " + (n + 1) + ": ";
+			String[] tokens = line.split("\\s+");
+			if (tokens.length == 3)
+			{
+				if (name != null)
+				{
+					routes.put(name, toArray(moves));
+				}
+				name = tokens[0];
+				moves.clear();
+
+				if (routes.containsKey(name))
+				{
+					errors.add(where + "duplicate route " + name);
+				}
+				checkRoute(where, tokens[0], tokens[1], tokens[2], errors);
+			}
+			else if (tokens.length == 2 && name != null)
+			{
+				try
+				{
+					for (String token : tokens)
+					{
+						int delta = Integer.parseInt(token);
+						if (delta < Short.MIN_VALUE || delta > Short.MAX_VALUE)
+						{
+							errors.add(where + "move " + delta + " does not fit in a short");
+						}
+						moves.add(delta);
+					}
+				}
+				catch (NumberFormatException e)
+				{
+					errors.add(where + "expected \"<dx> <dy>\" but got \"" + line + "\"");
+				}
+			}
+			else
+			{
+				errors.add(where + "expected a route header or a move but got \"" + line + "\"");
+			}
+		}
+
+		if (name != null)
+		{
+			routes.put(name, toArray(moves));
+		}
+		return routes;
+	}
+
+	private static void checkRoute(String where, String name, String start, String end, List<String> errors)
+	{
+		PortPaths path;
+		try
+		{
+			path = PortPaths.valueOf(name);
+		}
+		catch (IllegalArgumentException e)
+		{
+			errors.add(where + "unknown PortPaths constant " + name);
+			return;
+		}
+
+		checkLocation(where, "start", start, path.getStart(), errors);
+		checkLocation(where, "end", end, path.getEnd(), errors);
+	}
+
+	private static void checkLocation(String where, String which, String name, PortLocation expected, List<String> errors)
+	{
+		if (!expected.name().equals(name))
+		{
+			errors.add(where + which + " port " + name + " does not match PortPaths, expected " + expected.name());
+		}
+	}
+
+	private static int[] toArray(List<Integer> values)
+	{
+		return values.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * @return {@code routes} in the layout described on {@link RouteData}
+	 */
+	static byte[] encode(Map<String, int[]> routes)
+	{
+		int size = 8;
+		for (Map.Entry<String, int[]> route : routes.entrySet())
+		{
+			size += 2 + route.getKey().getBytes(StandardCharsets.UTF_8).length + 2 + route.getValue().length * 2;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(RouteData.MAGIC);
+		buffer.putShort((short) RouteData.VERSION);
+		buffer.putShort((short) routes.size());
+		for (Map.Entry<String, int[]> route : routes.entrySet())
+		{
+			byte[] name = route.getKey().getBytes(StandardCharsets.UTF_8);
+			buffer.putShort((short) name.length);
+			buffer.put(name);
+
+			int[] moves = route.getValue();
+			buffer.putShort((short) (moves.length / 2));
+			for (int delta : moves)
+			{
+				buffer.putShort((short) delta);
+			}
+		}
+		return buffer.array();
+	}
+}